@@ -0,0 +1,31 @@
+package com.noel.fortnitemod;
+
+import java.util.function.Supplier;
+
+import com.noel.fortnitemod.build.ChunkPieces;
+import com.noel.fortnitemod.build.PrefabLibrary;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.NeoForgeRegistries;
+
+public class AttachmentInit {
+    public static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES =
+            DeferredRegister.create(NeoForgeRegistries.ATTACHMENT_TYPES, Fortnite.MODID);
+
+    // Build pieces anchored in a chunk, saved with the chunk
+    public static final Supplier<AttachmentType<ChunkPieces>> CHUNK_PIECES = ATTACHMENT_TYPES.register(
+            "chunk_pieces",
+            () -> AttachmentType.builder(ChunkPieces::new).serialize(ChunkPieces.CODEC).build()
+    );
+
+    // Prefabs a player has recorded, saved with the player and kept on death
+    public static final Supplier<AttachmentType<PrefabLibrary>> PREFABS = ATTACHMENT_TYPES.register(
+            "prefabs",
+            () -> AttachmentType.builder(PrefabLibrary::new).serialize(PrefabLibrary.CODEC).copyOnDeath().build()
+    );
+
+    public static void register(IEventBus eventBus) {
+        ATTACHMENT_TYPES.register(eventBus);
+    }
+}
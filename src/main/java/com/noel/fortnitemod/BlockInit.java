@@ -15,33 +15,82 @@ import net.neoforged.bus.api.IEventBus;
 import net.neoforged.neoforge.registries.DeferredBlock;
 import net.neoforged.neoforge.registries.DeferredItem;
 import net.neoforged.neoforge.registries.DeferredRegister;
-import com.noel.fortnitemod.block.WoodWallBlock;
+import com.noel.fortnitemod.block.FloorPieceBlock;
+import com.noel.fortnitemod.block.RampPieceBlock;
+import com.noel.fortnitemod.block.WallPieceBlock;
+import com.noel.fortnitemod.build.PieceExplosions;
 
 public class BlockInit {
     public static final DeferredRegister.Blocks BLOCKS = DeferredRegister.createBlocks(Fortnite.MODID);
     public static final DeferredRegister.Items ITEMS = DeferredRegister.createItems(Fortnite.MODID);
 
-    // Wood Wall - thin wall (model makes it thin, not code)
-    public static final DeferredBlock<Block> WOOD_WALL = BLOCKS.registerSimpleBlock(
+    // Wood Wall - thin panel, shape per facing so neighbouring faces cull
+    public static final DeferredBlock<WallPieceBlock> WOOD_WALL = BLOCKS.registerBlock(
             "wood_wall",
-            p -> p.mapColor(MapColor.WOOD).strength(0.5f).sound(SoundType.WOOD).noOcclusion()
+            WallPieceBlock::new,
+            p -> p.mapColor(MapColor.WOOD).strength(0.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.WOOD)
     );
     public static final DeferredItem<BlockItem> WOOD_WALL_ITEM = ITEMS.registerSimpleBlockItem("wood_wall", WOOD_WALL);
 
-    // Wood Ramp - simple block for now
-    public static final DeferredBlock<Block> WOOD_RAMP = BLOCKS.registerSimpleBlock(
+    // Wood Ramp - stepped slope you can walk up
+    public static final DeferredBlock<RampPieceBlock> WOOD_RAMP = BLOCKS.registerBlock(
             "wood_ramp",
-            p -> p.mapColor(MapColor.WOOD).strength(0.5f).sound(SoundType.WOOD)
+            RampPieceBlock::new,
+            p -> p.mapColor(MapColor.WOOD).strength(0.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.WOOD)
     );
     public static final DeferredItem<BlockItem> WOOD_RAMP_ITEM = ITEMS.registerSimpleBlockItem("wood_ramp", WOOD_RAMP);
 
-    // Wood Floor - simple block for now
-    public static final DeferredBlock<Block> WOOD_FLOOR = BLOCKS.registerSimpleBlock(
+    // Wood Floor - thin slab
+    public static final DeferredBlock<FloorPieceBlock> WOOD_FLOOR = BLOCKS.registerBlock(
             "wood_floor",
-            p -> p.mapColor(MapColor.WOOD).strength(0.5f).sound(SoundType.WOOD)
+            FloorPieceBlock::new,
+            p -> p.mapColor(MapColor.WOOD).strength(0.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.WOOD)
     );
     public static final DeferredItem<BlockItem> WOOD_FLOOR_ITEM = ITEMS.registerSimpleBlockItem("wood_floor", WOOD_FLOOR);
 
+    // Brick and metal pieces share the wood shapes, every piece model comes from datagen
+    public static final DeferredBlock<WallPieceBlock> BRICK_WALL = BLOCKS.registerBlock(
+            "brick_wall",
+            WallPieceBlock::new,
+            p -> p.mapColor(MapColor.COLOR_RED).strength(1.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.STONE)
+    );
+    public static final DeferredItem<BlockItem> BRICK_WALL_ITEM = ITEMS.registerSimpleBlockItem("brick_wall", BRICK_WALL);
+
+    public static final DeferredBlock<RampPieceBlock> BRICK_RAMP = BLOCKS.registerBlock(
+            "brick_ramp",
+            RampPieceBlock::new,
+            p -> p.mapColor(MapColor.COLOR_RED).strength(1.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.STONE)
+    );
+    public static final DeferredItem<BlockItem> BRICK_RAMP_ITEM = ITEMS.registerSimpleBlockItem("brick_ramp", BRICK_RAMP);
+
+    public static final DeferredBlock<FloorPieceBlock> BRICK_FLOOR = BLOCKS.registerBlock(
+            "brick_floor",
+            FloorPieceBlock::new,
+            p -> p.mapColor(MapColor.COLOR_RED).strength(1.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.STONE)
+    );
+    public static final DeferredItem<BlockItem> BRICK_FLOOR_ITEM = ITEMS.registerSimpleBlockItem("brick_floor", BRICK_FLOOR);
+
+    public static final DeferredBlock<WallPieceBlock> METAL_WALL = BLOCKS.registerBlock(
+            "metal_wall",
+            WallPieceBlock::new,
+            p -> p.mapColor(MapColor.METAL).strength(2.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.METAL)
+    );
+    public static final DeferredItem<BlockItem> METAL_WALL_ITEM = ITEMS.registerSimpleBlockItem("metal_wall", METAL_WALL);
+
+    public static final DeferredBlock<RampPieceBlock> METAL_RAMP = BLOCKS.registerBlock(
+            "metal_ramp",
+            RampPieceBlock::new,
+            p -> p.mapColor(MapColor.METAL).strength(2.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.METAL)
+    );
+    public static final DeferredItem<BlockItem> METAL_RAMP_ITEM = ITEMS.registerSimpleBlockItem("metal_ramp", METAL_RAMP);
+
+    public static final DeferredBlock<FloorPieceBlock> METAL_FLOOR = BLOCKS.registerBlock(
+            "metal_floor",
+            FloorPieceBlock::new,
+            p -> p.mapColor(MapColor.METAL).strength(2.5f, PieceExplosions.BLAST_RESISTANCE).sound(SoundType.METAL)
+    );
+    public static final DeferredItem<BlockItem> METAL_FLOOR_ITEM = ITEMS.registerSimpleBlockItem("metal_floor", METAL_FLOOR);
+
     public static void register(IEventBus eventBus) {
         BLOCKS.register(eventBus);
         ITEMS.register(eventBus);
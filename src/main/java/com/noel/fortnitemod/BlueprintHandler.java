@@ -1,16 +1,20 @@
 package com.noel.fortnitemod;
 
+import com.noel.fortnitemod.build.BuildGrid;
+import com.noel.fortnitemod.build.BuildRaycast;
+import com.noel.fortnitemod.build.PieceEditor;
+import com.noel.fortnitemod.build.PieceMaterial;
+import com.noel.fortnitemod.build.PiecePlacer;
+import com.noel.fortnitemod.build.PieceType;
+import com.noel.fortnitemod.build.PlacementValidator;
+import com.noel.fortnitemod.build.TurboBuild;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.context.BlockPlaceContext;
-import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
@@ -19,23 +23,40 @@ import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 @EventBusSubscriber(modid = Fortnite.MODID)
 public class BlueprintHandler {
     
+    // Server thread only
+    private static final BuildRaycast RAYCAST = new BuildRaycast();
+    
     public enum BuildMode {
-        WALL("Wall", 0),
-        RAMP("Ramp", 1),
-        FLOOR("Floor", 2);
+        WALL("Wall", 0, PieceType.WALL),
+        RAMP("Ramp", 1, PieceType.RAMP),
+        FLOOR("Floor", 2, PieceType.FLOOR),
+        EDIT("Edit", 3, null);
         
         private final String displayName;
         private final int index;
+        private final PieceType pieceType;
         
-        BuildMode(String displayName, int index) {
+        BuildMode(String displayName, int index, PieceType pieceType) {
             this.displayName = displayName;
             this.index = index;
+            this.pieceType = pieceType;
         }
         
         public String getDisplayName() {
             return displayName;
         }
         
+        public int getIndex() {
+            return index;
+        }
+        
+        /**
+         * The piece this mode builds, or null for edit mode.
+         */
+        public PieceType getPieceType() {
+            return pieceType;
+        }
+        
         public BuildMode next() {
             return values()[(this.index + 1) % values().length];
         }
@@ -59,6 +80,7 @@ public class BlueprintHandler {
         // Shift + Right-click to cycle modes
         if (player.isShiftKeyDown()) {
             if (!level.isClientSide()) {
+                PieceEditor.confirm(player, level);
                 BuildMode currentMode = getBuildMode(stack);
                 BuildMode newMode = currentMode.next();
                 setBuildMode(stack, newMode);
@@ -72,6 +94,18 @@ public class BlueprintHandler {
             return;
         }
         
+        BuildMode mode = getBuildMode(stack);
+        
+        // Edit mode - select tiles of the piece that was hit
+        if (mode == BuildMode.EDIT) {
+            if (!level.isClientSide()) {
+                PieceEditor.use(player, level, event.getHitVec().getBlockPos());
+            }
+            event.setCanceled(true);
+            event.setCancellationResult(InteractionResult.SUCCESS);
+            return;
+        }
+        
         // Regular right-click to place block
         if (!level.isClientSide()) {
             BlockHitResult hitResult = event.getHitVec();
@@ -79,101 +113,36 @@ public class BlueprintHandler {
             Direction clickedFace = hitResult.getDirection();
             BlockPos placePos = clickedPos.relative(clickedFace);
             
-            // Check if we can place at this position
+            // Check if we can place at this position; cancel anyway so the air-build path
+            // does not run on the same click
             if (!level.getBlockState(placePos).canBeReplaced()) {
+                event.setCanceled(true);
+                event.setCancellationResult(InteractionResult.FAIL);
                 return;
             }
             
-            BuildMode mode = getBuildMode(stack);
-            Block blockToPlace = getBlockForMode(mode);
+            // Apply snapping based on mode
+            if (mode == BuildMode.WALL) {
+                placePos = BuildSnapHelper.getSnappedPosition(level, placePos, player, getMaterial(stack).block(PieceType.WALL));
+            } else if (mode == BuildMode.RAMP) {
+                placePos = BuildSnapHelper.getSnappedRampPosition(level, placePos, player);
+            }
             
-            if (blockToPlace != null) {
-                // Apply snapping based on mode
-                if (mode == BuildMode.WALL) {
-                    placePos = BuildSnapHelper.getSnappedPosition(level, placePos, player, BlockInit.WOOD_WALL.get());
-                } else if (mode == BuildMode.RAMP) {
-                    placePos = BuildSnapHelper.getSnappedRampPosition(level, placePos, player);
-                }
-                
-                // Determine orientation for 3x3 wall
-                Direction playerFacing = player.getDirection();
-                Direction wallWidthDir = playerFacing.getClockWise(); // Perpendicular to look direction
-                BlockState stateToPlace = blockToPlace.defaultBlockState();
-
-                // Set facing if applicable (for our custom wall)
-                if (stateToPlace.hasProperty(net.minecraft.world.level.block.state.properties.BlockStateProperties.HORIZONTAL_FACING)) {
-                    stateToPlace = stateToPlace.setValue(net.minecraft.world.level.block.state.properties.BlockStateProperties.HORIZONTAL_FACING, playerFacing.getOpposite());
-                }
-
-                // If it's a wall mode, place 3x3 grid
-                if (mode == BuildMode.WALL) {
-                    boolean placedAny = false;
-                    // Loop 3 wide (centered) and 3 high
-                    for (int y = 0; y < 3; y++) {
-                        for (int w = -1; w <= 1; w++) {
-                            BlockPos targetPos = placePos.relative(wallWidthDir, w).above(y);
-                            
-                            // Check if valid replacement
-                            if (level.getBlockState(targetPos).canBeReplaced() && level.isInWorldBounds(targetPos)) {
-                                level.setBlock(targetPos, stateToPlace, 3);
-                                placedAny = true;
-                            }
-                        }
-                    }
-                    
-                    if (placedAny) {
-                         level.playSound(null, placePos, 
-                            stateToPlace.getSoundType().getPlaceSound(), 
-                            net.minecraft.sounds.SoundSource.BLOCKS, 
-                            1.0f, 1.0f);
-                    }
-                } else if (mode == BuildMode.FLOOR) {
-                    // 3x3 horizontal floor
-                    boolean placedAny = false;
-                    for (int x = -1; x <= 1; x++) {
-                        for (int z = -1; z <= 1; z++) {
-                            BlockPos targetPos = placePos.offset(x, 0, z);
-                            if (level.getBlockState(targetPos).canBeReplaced() && level.isInWorldBounds(targetPos)) {
-                                level.setBlock(targetPos, stateToPlace, 3);
-                                placedAny = true;
-                            }
-                        }
-                    }
-                    if (placedAny) {
-                        level.playSound(null, placePos, 
-                            stateToPlace.getSoundType().getPlaceSound(), 
-                            net.minecraft.sounds.SoundSource.BLOCKS, 
-                            1.0f, 1.0f);
-                    }
-                } else {
-                    // Ramp - use actual stairs for smooth walking
-                    Direction rampWidthDir = playerFacing.getClockWise();
-                    boolean placedAny = false;
-                    
-                    // Use oak stairs with proper facing
-                    BlockState stairState = net.minecraft.world.level.block.Blocks.OAK_STAIRS.defaultBlockState()
-                        .setValue(net.minecraft.world.level.block.state.properties.BlockStateProperties.HORIZONTAL_FACING, playerFacing)
-                        .setValue(net.minecraft.world.level.block.state.properties.BlockStateProperties.HALF, 
-                                  net.minecraft.world.level.block.state.properties.Half.BOTTOM);
-                    
-                    for (int depth = 0; depth < 3; depth++) {
-                        for (int w = -1; w <= 1; w++) {
-                            BlockPos targetPos = placePos.relative(playerFacing, depth).relative(rampWidthDir, w).above(depth);
-                            if (level.getBlockState(targetPos).canBeReplaced() && level.isInWorldBounds(targetPos)) {
-                                level.setBlock(targetPos, stairState, 3);
-                                placedAny = true;
-                            }
-                        }
-                    }
-                    
-                    if (placedAny) {
-                        level.playSound(null, placePos, 
-                            stairState.getSoundType().getPlaceSound(), 
-                            net.minecraft.sounds.SoundSource.BLOCKS, 
-                            1.0f, 1.0f);
-                    }
-                }
+            // Pieces are aligned to the build grid, so place into the cell we landed in
+            int cellX = BuildGrid.toCell(placePos.getX());
+            int cellY = BuildGrid.toCell(placePos.getY());
+            int cellZ = BuildGrid.toCell(placePos.getZ());
+            
+            // The hit position came from the client and snapping moved it, so check it can really be reached
+            if (!PlacementValidator.canReach(player, level, cellX, cellY, cellZ)) {
+                event.setCanceled(true);
+                event.setCancellationResult(InteractionResult.FAIL);
+                return;
             }
+            
+            PiecePlacer placer = new PiecePlacer(level, getMaterial(stack));
+            TurboBuild.place(player, mode.getPieceType(), player.getDirection(), cellX, cellY, cellZ, placer);
+            placer.finish();
         }
         
         event.setCanceled(true);
@@ -194,6 +163,7 @@ public class BlueprintHandler {
         // Shift + Right-click to cycle modes (when not looking at a block)
         if (player.isShiftKeyDown()) {
             if (!level.isClientSide()) {
+                PieceEditor.confirm(player, level);
                 BuildMode currentMode = getBuildMode(stack);
                 BuildMode newMode = currentMode.next();
                 setBuildMode(stack, newMode);
@@ -204,15 +174,30 @@ public class BlueprintHandler {
             }
             event.setCanceled(true);
             event.setCancellationResult(InteractionResult.SUCCESS);
+            return;
         }
-    }
-    
-    private static Block getBlockForMode(BuildMode mode) {
-        return switch (mode) {
-            case WALL -> BlockInit.WOOD_WALL.get();
-            case RAMP -> BlockInit.WOOD_RAMP.get();
-            case FLOOR -> BlockInit.WOOD_FLOOR.get();
-        };
+        
+        // Regular right-click in the air - pick a grid cell along the look vector
+        if (!level.isClientSide()) {
+            BuildMode mode = getBuildMode(stack);
+            if (mode == BuildMode.EDIT) {
+                PieceEditor.use(player, level, null);
+                event.setCanceled(true);
+                event.setCancellationResult(InteractionResult.SUCCESS);
+                return;
+            }
+            
+            long cell = RAYCAST.pick(level, player, mode.getPieceType(), BuildRaycast.buildRange(player));
+            if (cell != BuildRaycast.NO_CELL) {
+                PiecePlacer placer = new PiecePlacer(level, getMaterial(stack));
+                TurboBuild.place(player, mode.getPieceType(), player.getDirection(),
+                    BuildGrid.unpackX(cell), BuildGrid.unpackY(cell), BuildGrid.unpackZ(cell), placer);
+                placer.finish();
+            }
+        }
+        
+        event.setCanceled(true);
+        event.setCancellationResult(InteractionResult.SUCCESS);
     }
     
     public static BuildMode getBuildMode(ItemStack stack) {
@@ -234,10 +219,25 @@ public class BlueprintHandler {
         return getBuildMode(stack);
     }
     
-    private static void setBuildMode(ItemStack stack, BuildMode mode) {
-        var tag = new net.minecraft.nbt.CompoundTag();
-        tag.putInt("BuildMode", mode.index);
-        stack.set(net.minecraft.core.component.DataComponents.CUSTOM_DATA, 
-                  net.minecraft.world.item.component.CustomData.of(tag));
+    public static void setBuildMode(ItemStack stack, BuildMode mode) {
+        // Update in place so the selected material survives a mode change
+        net.minecraft.world.item.component.CustomData.update(net.minecraft.core.component.DataComponents.CUSTOM_DATA,
+                  stack, tag -> tag.putInt("BuildMode", mode.index));
+    }
+    
+    public static PieceMaterial getMaterial(ItemStack stack) {
+        var customData = stack.get(net.minecraft.core.component.DataComponents.CUSTOM_DATA);
+        if (customData != null) {
+            var tag = customData.copyTag();
+            if (tag.contains("Material")) {
+                return PieceMaterial.fromIndex(tag.getInt("Material").orElse(0));
+            }
+        }
+        return PieceMaterial.WOOD;
+    }
+    
+    public static void setMaterial(ItemStack stack, PieceMaterial material) {
+        net.minecraft.world.item.component.CustomData.update(net.minecraft.core.component.DataComponents.CUSTOM_DATA,
+                  stack, tag -> tag.putInt("Material", material.ordinal()));
     }
 }
@@ -1,5 +1,6 @@
 package com.noel.fortnitemod;
 
+import com.noel.fortnitemod.block.RampPieceBlock;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.entity.player.Player;
@@ -142,8 +143,8 @@ public class BuildSnapHelper {
     }
     
     /**
-     * Snaps ramp placement to continue from existing stairs.
-     * Finds nearby stairs and returns a position to continue the staircase diagonally.
+     * Snaps ramp placement to continue from existing ramps.
+     * Finds nearby ramps and returns a position to continue the staircase diagonally.
      */
     public static BlockPos getSnappedRampPosition(Level level, BlockPos originalPos, Player player) {
         Direction playerFacing = player.getDirection();
@@ -151,14 +152,14 @@ public class BuildSnapHelper {
         BlockPos bestSnap = null;
         double bestDist = Double.MAX_VALUE;
         
-        // Search for nearby stairs
+        // Search for nearby ramps
         for (int dx = -SNAP_RANGE; dx <= SNAP_RANGE; dx++) {
             for (int dy = -4; dy <= 4; dy++) {
                 for (int dz = -SNAP_RANGE; dz <= SNAP_RANGE; dz++) {
                     BlockPos checkPos = originalPos.offset(dx, dy, dz);
                     
-                    if (isStairBlock(level, checkPos)) {
-                        // Found stairs! Try snapping to continue in same direction
+                    if (isRampBlock(level, checkPos)) {
+                        // Found a ramp! Try snapping to continue in same direction
                         // Ramps are 3 deep and 3 high, so next ramp starts 3 forward and 3 up
                         
                         // Snap above/forward (continue going up)
@@ -193,8 +194,7 @@ public class BuildSnapHelper {
         return originalPos;
     }
     
-    private static boolean isStairBlock(Level level, BlockPos pos) {
-        var state = level.getBlockState(pos);
-        return state.getBlock() instanceof net.minecraft.world.level.block.StairBlock;
+    private static boolean isRampBlock(Level level, BlockPos pos) {
+        return level.getBlockState(pos).getBlock() instanceof RampPieceBlock;
     }
 }
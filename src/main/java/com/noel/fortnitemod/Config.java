@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.noel.fortnitemod.storm.StormPhase;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.Identifier;
 import net.minecraft.world.item.Item;
@@ -34,9 +35,53 @@ public class Config {
             .comment("A list of items to log on common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), () -> "", Config::validateItemName);
 
+    public static final ModConfigSpec.BooleanValue TURBO_BUILD = BUILDER
+            .comment("Whether holding use with a blueprint fills every grid cell the aim sweeps across")
+            .define("turboBuild", true);
+
+    public static final ModConfigSpec.IntValue TURBO_BUILD_MAX_PIECES_PER_TICK = BUILDER
+            .comment("The most pieces turbo-build may place for one player in a single tick, counting the aimed piece and every gap filled")
+            .defineInRange("turboBuildMaxPiecesPerTick", 4, 1, 64);
+
+    public static final ModConfigSpec.IntValue MAX_PREFABS_PER_PLAYER = BUILDER
+            .comment("How many prefabs each player may have saved at once")
+            .defineInRange("maxPrefabsPerPlayer", 8, 0, 256);
+
+    public static final ModConfigSpec.IntValue MAX_PREFAB_PIECES = BUILDER
+            .comment("The most pieces a single prefab may contain")
+            .defineInRange("maxPrefabPieces", 64, 1, 4096);
+
+    public static final ModConfigSpec.IntValue ARENA_BUILD_PIECES_PER_TICK = BUILDER
+            .comment("The most pieces all players together may place in one arena in a single tick")
+            .defineInRange("arenaBuildPiecesPerTick", 64, 1, 4096);
+
+    public static final ModConfigSpec.IntValue ARENA_RESET_PIECES_PER_TICK = BUILDER
+            .comment("How many pieces an arena reset removes per tick")
+            .defineInRange("arenaResetPiecesPerTick", 256, 1, 65536);
+
+    public static final ModConfigSpec.IntValue PROJECTILE_PIECE_DAMAGE = BUILDER
+            .comment("Damage a projectile deals to the build piece it hits. Wood pieces have 150 health")
+            .defineInRange("projectilePieceDamage", 25, 0, 10000);
+
+    public static final ModConfigSpec.IntValue EXPLOSION_PIECE_DAMAGE = BUILDER
+            .comment("Damage a TNT-sized explosion deals to a build piece at its centre, scaled by explosion size and falling off with distance")
+            .defineInRange("explosionPieceDamage", 200, 0, 10000);
+
+    public static final ModConfigSpec.IntValue LOOT_POINTS_PER_TICK = BUILDER
+            .comment("How many loot points are filled per tick when a match starts")
+            .defineInRange("lootPointsPerTick", 32, 1, 4096);
+
+    public static final ModConfigSpec.ConfigValue<List<? extends String>> STORM_PHASES = BUILDER
+            .comment("Storm phases in order. Each is waitSeconds,shrinkSeconds,radiusScale,damagePerSecond, where radiusScale is a fraction of the starting radius")
+            .defineListAllowEmpty("stormPhases", List.of("60,60,0.5,1", "45,45,0.25,2", "30,30,0.1,5", "20,20,0,10"), () -> "60,60,0.5,1", Config::validateStormPhase);
+
     static final ModConfigSpec SPEC = BUILDER.build();
 
     private static boolean validateItemName(final Object obj) {
         return obj instanceof String itemName && BuiltInRegistries.ITEM.containsKey(Identifier.parse(itemName));
     }
+
+    private static boolean validateStormPhase(final Object obj) {
+        return obj instanceof String entry && StormPhase.parse(entry) != null;
+    }
 }
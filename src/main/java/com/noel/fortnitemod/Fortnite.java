@@ -72,13 +72,7 @@ public class Fortnite {
         
         BlockInit.register(modEventBus);
         ItemInit.register(modEventBus);
-        
-        // Wire up block suppliers for BlueprintItem (avoids class loading issues)
-        com.noel.fortnitemod.item.BlueprintItem.setBlockSuppliers(
-            () -> BlockInit.WOOD_WALL.get(),
-            () -> BlockInit.WOOD_RAMP.get(),
-            () -> BlockInit.WOOD_FLOOR.get()
-        );
+        AttachmentInit.register(modEventBus);
 
         // Register the Deferred Register to the mod event bus so blocks get registered
         BLOCKS.register(modEventBus);
@@ -123,6 +117,12 @@ public class Fortnite {
             event.accept(BlockInit.WOOD_WALL_ITEM.get());
             event.accept(BlockInit.WOOD_RAMP_ITEM.get());
             event.accept(BlockInit.WOOD_FLOOR_ITEM.get());
+            event.accept(BlockInit.BRICK_WALL_ITEM.get());
+            event.accept(BlockInit.BRICK_RAMP_ITEM.get());
+            event.accept(BlockInit.BRICK_FLOOR_ITEM.get());
+            event.accept(BlockInit.METAL_WALL_ITEM.get());
+            event.accept(BlockInit.METAL_RAMP_ITEM.get());
+            event.accept(BlockInit.METAL_FLOOR_ITEM.get());
         }
     }
 
@@ -1,5 +1,6 @@
 package com.noel.fortnitemod;
 
+import com.noel.fortnitemod.datagen.FortniteModelProvider;
 import net.minecraft.client.Minecraft;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -9,6 +10,7 @@ import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.neoforge.client.gui.ConfigurationScreen;
 import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
+import net.neoforged.neoforge.data.event.GatherDataEvent;
 
 // This class will not load on dedicated servers. Accessing client side code from here is safe.
 @Mod(value = Fortnite.MODID, dist = Dist.CLIENT)
@@ -28,4 +30,10 @@ public class FortniteClient {
         Fortnite.LOGGER.info("HELLO FROM CLIENT SETUP");
         Fortnite.LOGGER.info("MINECRAFT NAME >> {}", Minecraft.getInstance().getUser().getName());
     }
+
+    @SubscribeEvent
+    static void onGatherData(GatherDataEvent.Client event) {
+        // Piece models for every material, written to src/generated/resources by runData
+        event.createProvider(FortniteModelProvider::new);
+    }
 }
@@ -0,0 +1,297 @@
+package com.noel.fortnitemod;
+
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.noel.fortnitemod.arena.Arena;
+import com.noel.fortnitemod.arena.ArenaManager;
+import com.noel.fortnitemod.build.BuildGrid;
+import com.noel.fortnitemod.build.PiecePlacer;
+import com.noel.fortnitemod.build.Prefab;
+import com.noel.fortnitemod.build.PrefabLibrary;
+import com.noel.fortnitemod.loot.LootPoint;
+import com.noel.fortnitemod.loot.LootSpawner;
+import com.noel.fortnitemod.loot.RarityTables;
+import com.noel.fortnitemod.storm.Storm;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.commands.arguments.IdentifierArgument;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+
+/**
+ * The /fortnite command tree.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class FortniteCommands {
+
+    // Largest prefab capture radius, in cells
+    private static final int MAX_PREFAB_RADIUS = 4;
+
+    private static final double MAX_STORM_RADIUS = 30_000_000;
+
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal("fortnite")
+            .then(Commands.literal("prefab")
+                // Stamping skips the reach and turbo build limits, so it is an operator tool
+                .requires(Commands.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                // Record the pieces around you
+                .then(Commands.literal("save")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .executes(ctx -> savePrefab(ctx, 1))
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(0, MAX_PREFAB_RADIUS))
+                            .executes(ctx -> savePrefab(ctx, IntegerArgumentType.getInteger(ctx, "radius"))))))
+                // Stamp a recorded layout around you, turned to your facing
+                .then(Commands.literal("place")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .executes(FortniteCommands::placePrefab)))
+                .then(Commands.literal("delete")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .executes(FortniteCommands::deletePrefab)))
+                .then(Commands.literal("list")
+                    .executes(FortniteCommands::listPrefabs)))
+            .then(Commands.literal("arena")
+                .requires(Commands.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                .then(Commands.literal("create")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .then(Commands.argument("from", BlockPosArgument.blockPos())
+                            .then(Commands.argument("to", BlockPosArgument.blockPos())
+                                .executes(FortniteCommands::createArena)))))
+                // Clear every piece in the arena over the next few ticks
+                .then(Commands.literal("reset")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .executes(FortniteCommands::resetArena)))
+                .then(Commands.literal("remove")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .executes(FortniteCommands::removeArena)))
+                .then(Commands.literal("list")
+                    .executes(FortniteCommands::listArenas))
+                // Reset the arena and roll its loot points
+                .then(Commands.literal("start")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .executes(FortniteCommands::startArena)))
+                .then(Commands.literal("loot")
+                    .then(Commands.argument("name", StringArgumentType.word())
+                        .then(Commands.literal("add")
+                            .then(Commands.argument("pos", BlockPosArgument.blockPos())
+                                .then(Commands.argument("table", IdentifierArgument.id())
+                                    .suggests((c, builder) -> SharedSuggestionProvider.suggestResource(RarityTables.ids(), builder))
+                                    .then(Commands.literal("floor")
+                                        .executes(ctx -> addLootPoint(ctx, false)))
+                                    .then(Commands.literal("chest")
+                                        .executes(ctx -> addLootPoint(ctx, true))))))
+                        .then(Commands.literal("clear")
+                            .executes(FortniteCommands::clearLootPoints)))))
+            .then(Commands.literal("storm")
+                .requires(Commands.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                // Start a storm centred on the command source
+                .then(Commands.literal("start")
+                    .then(Commands.argument("radius", DoubleArgumentType.doubleArg(1, MAX_STORM_RADIUS))
+                        .executes(FortniteCommands::startStorm)))
+                .then(Commands.literal("stop")
+                    .executes(FortniteCommands::stopStorm))));
+    }
+
+    private static int savePrefab(CommandContext<CommandSourceStack> ctx, int radius) throws CommandSyntaxException {
+        ServerPlayer player = ctx.getSource().getPlayerOrException();
+        String name = StringArgumentType.getString(ctx, "name");
+
+        Prefab prefab = Prefab.capture(name, player.level(),
+            BuildGrid.toCell(player.getX()), BuildGrid.toCell(player.getY()), BuildGrid.toCell(player.getZ()),
+            player.getDirection(), radius, Config.MAX_PREFAB_PIECES.getAsInt());
+
+        if (prefab == null) {
+            ctx.getSource().sendFailure(Component.literal("Too many pieces, the limit is " + Config.MAX_PREFAB_PIECES.getAsInt()));
+            return 0;
+        }
+        if (prefab.size() == 0) {
+            ctx.getSource().sendFailure(Component.literal("No pieces nearby to save"));
+            return 0;
+        }
+        if (!PrefabLibrary.of(player).put(prefab)) {
+            ctx.getSource().sendFailure(Component.literal("You already have " + Config.MAX_PREFABS_PER_PLAYER.getAsInt() + " prefabs saved"));
+            return 0;
+        }
+
+        ctx.getSource().sendSuccess(() -> Component.literal("Saved prefab " + name + " (" + prefab.size() + " pieces)"), false);
+        return prefab.size();
+    }
+
+    private static int placePrefab(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
+        ServerPlayer player = ctx.getSource().getPlayerOrException();
+        String name = StringArgumentType.getString(ctx, "name");
+        Prefab prefab = PrefabLibrary.of(player).get(name);
+        if (prefab == null) {
+            ctx.getSource().sendFailure(Component.literal("No prefab named " + name));
+            return 0;
+        }
+
+        Level level = player.level();
+        int originX = BuildGrid.toCell(player.getX());
+        int originY = BuildGrid.toCell(player.getY());
+        int originZ = BuildGrid.toCell(player.getZ());
+        Prefab.Fit fit = prefab.canStamp(player, level, originX, originY, originZ, player.getDirection());
+        if (fit != Prefab.Fit.FITS) {
+            ctx.getSource().sendFailure(Component.literal(switch (fit) {
+                case OUTSIDE_BUILD_HEIGHT -> "Prefab does not fit here";
+                case OUT_OF_SIGHT -> "Prefab would be built out of sight";
+                default -> "Too many pieces building here this tick, try again";
+            }));
+            return 0;
+        }
+
+        // Validated up front, then written as one batch
+        PiecePlacer placer = new PiecePlacer(level);
+        prefab.stamp(placer, originX, originY, originZ, player.getDirection());
+        int placed = placer.finish();
+        ctx.getSource().sendSuccess(() -> Component.literal("Placed prefab " + name + " (" + placed + " pieces)"), false);
+        return placed;
+    }
+
+    private static int deletePrefab(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
+        ServerPlayer player = ctx.getSource().getPlayerOrException();
+        String name = StringArgumentType.getString(ctx, "name");
+        if (!PrefabLibrary.of(player).remove(name)) {
+            ctx.getSource().sendFailure(Component.literal("No prefab named " + name));
+            return 0;
+        }
+        ctx.getSource().sendSuccess(() -> Component.literal("Deleted prefab " + name), false);
+        return 1;
+    }
+
+    private static int listPrefabs(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
+        ServerPlayer player = ctx.getSource().getPlayerOrException();
+        var names = PrefabLibrary.of(player).names();
+        ctx.getSource().sendSuccess(() -> Component.literal("Prefabs: " + String.join(", ", names)), false);
+        return names.size();
+    }
+
+    private static int createArena(CommandContext<CommandSourceStack> ctx) {
+        String name = StringArgumentType.getString(ctx, "name");
+        BlockPos from = BlockPosArgument.getBlockPos(ctx, "from");
+        BlockPos to = BlockPosArgument.getBlockPos(ctx, "to");
+        ServerLevel level = ctx.getSource().getLevel();
+
+        Arena arena = ArenaManager.of(level).create(level, name, from, to);
+        if (arena == null) {
+            ctx.getSource().sendFailure(Component.literal("Arena " + name + " already exists or overlaps another arena"));
+            return 0;
+        }
+        ctx.getSource().sendSuccess(() -> Component.literal("Created arena " + name + " (" + arena.pieces().size() + " pieces)"), true);
+        return 1;
+    }
+
+    private static int resetArena(CommandContext<CommandSourceStack> ctx) {
+        String name = StringArgumentType.getString(ctx, "name");
+        Arena arena = ArenaManager.of(ctx.getSource().getLevel()).get(name);
+        if (arena == null) {
+            ctx.getSource().sendFailure(Component.literal("No arena named " + name));
+            return 0;
+        }
+        int queued = arena.reset(ctx.getSource().getLevel());
+        ctx.getSource().sendSuccess(() -> Component.literal("Resetting arena " + name + " (" + queued + " pieces)"), true);
+        return queued;
+    }
+
+    private static int removeArena(CommandContext<CommandSourceStack> ctx) {
+        String name = StringArgumentType.getString(ctx, "name");
+        ServerLevel level = ctx.getSource().getLevel();
+        if (!ArenaManager.of(level).remove(level, name)) {
+            ctx.getSource().sendFailure(Component.literal("No arena named " + name));
+            return 0;
+        }
+        ctx.getSource().sendSuccess(() -> Component.literal("Removed arena " + name), true);
+        return 1;
+    }
+
+    private static int listArenas(CommandContext<CommandSourceStack> ctx) {
+        var arenas = ArenaManager.of(ctx.getSource().getLevel()).all();
+        var names = arenas.stream().map(Arena::name).toList();
+        ctx.getSource().sendSuccess(() -> Component.literal("Arenas: " + String.join(", ", names)), false);
+        return names.size();
+    }
+
+    private static int startArena(CommandContext<CommandSourceStack> ctx) {
+        String name = StringArgumentType.getString(ctx, "name");
+        ServerLevel level = ctx.getSource().getLevel();
+        Arena arena = ArenaManager.of(level).get(name);
+        if (arena == null) {
+            ctx.getSource().sendFailure(Component.literal("No arena named " + name));
+            return 0;
+        }
+        int pieces = arena.reset(level);
+        int loot = LootSpawner.spawn(level, arena.name(), arena.lootPoints());
+        int points = arena.lootPoints().size();
+        ctx.getSource().sendSuccess(() -> Component.literal("Starting arena " + name + ": clearing " + pieces + " pieces, filling " + loot + " of " + points + " loot points"), true);
+        return 1;
+    }
+
+    private static int addLootPoint(CommandContext<CommandSourceStack> ctx, boolean chest) {
+        String name = StringArgumentType.getString(ctx, "name");
+        Arena arena = ArenaManager.of(ctx.getSource().getLevel()).get(name);
+        if (arena == null) {
+            ctx.getSource().sendFailure(Component.literal("No arena named " + name));
+            return 0;
+        }
+        Identifier table = IdentifierArgument.getId(ctx, "table");
+        if (RarityTables.get(table) == null) {
+            ctx.getSource().sendFailure(Component.literal("No loot table named " + table));
+            return 0;
+        }
+        BlockPos pos = BlockPosArgument.getBlockPos(ctx, "pos");
+        if (!arena.contains(pos)) {
+            ctx.getSource().sendFailure(Component.literal("Loot point is outside arena " + name));
+            return 0;
+        }
+        arena.addLootPoint(new LootPoint(pos, table, chest));
+        ctx.getSource().sendSuccess(() -> Component.literal("Added loot point " + arena.lootPoints().size() + " to arena " + name), false);
+        return arena.lootPoints().size();
+    }
+
+    private static int clearLootPoints(CommandContext<CommandSourceStack> ctx) {
+        String name = StringArgumentType.getString(ctx, "name");
+        Arena arena = ArenaManager.of(ctx.getSource().getLevel()).get(name);
+        if (arena == null) {
+            ctx.getSource().sendFailure(Component.literal("No arena named " + name));
+            return 0;
+        }
+        int cleared = arena.lootPoints().size();
+        arena.clearLootPoints();
+        ctx.getSource().sendSuccess(() -> Component.literal("Cleared " + cleared + " loot points from arena " + name), false);
+        return cleared;
+    }
+
+    private static int startStorm(CommandContext<CommandSourceStack> ctx) {
+        double radius = DoubleArgumentType.getDouble(ctx, "radius");
+        Vec3 centre = ctx.getSource().getPosition();
+        Storm storm = Storm.start(ctx.getSource().getLevel(), centre.x, centre.z, radius);
+        if (storm == null) {
+            ctx.getSource().sendFailure(Component.literal("No valid storm phases are configured"));
+            return 0;
+        }
+        ctx.getSource().sendSuccess(() -> Component.literal("Started a storm with radius " + (int) radius), true);
+        return 1;
+    }
+
+    private static int stopStorm(CommandContext<CommandSourceStack> ctx) {
+        if (!Storm.stop(ctx.getSource().getLevel())) {
+            ctx.getSource().sendFailure(Component.literal("There is no storm"));
+            return 0;
+        }
+        ctx.getSource().sendSuccess(() -> Component.literal("Stopped the storm"), true);
+        return 1;
+    }
+}
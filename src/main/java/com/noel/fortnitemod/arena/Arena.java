@@ -0,0 +1,404 @@
+package com.noel.fortnitemod.arena;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import com.noel.fortnitemod.build.BuildGrid;
+import com.noel.fortnitemod.build.BuildPiece;
+import com.noel.fortnitemod.build.BulkBuild;
+import com.noel.fortnitemod.build.PieceIndex;
+import com.noel.fortnitemod.loot.LootPoint;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * A named match region with its own piece store, build budget and reset lifecycle.
+ * Bounds are stored in build grid cells, inclusive.
+ * <p>
+ * A reset swaps in a fresh pooled state for the next match straight away. The
+ * old state drains its pieces over the following ticks and then goes back to
+ * the pool, so every match reuses tables that earlier matches already grew.
+ * While any old pieces are still standing the arena accepts no new builds,
+ * since its lookups only see the current match.
+ * <p>
+ * The definition, loot points and any removals still owed are saved with the
+ * level by {@link ArenaManager}. Pieces themselves are saved with their chunks.
+ */
+public class Arena {
+
+    static final Codec<Arena> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+        Codec.STRING.fieldOf("name").forGetter(Arena::name),
+        BlockPos.CODEC.fieldOf("from").forGetter(Arena::minCorner),
+        BlockPos.CODEC.fieldOf("to").forGetter(Arena::maxCorner),
+        LootPoint.CODEC.listOf().fieldOf("loot_points").forGetter(Arena::lootPoints),
+        Codec.LONG_STREAM.fieldOf("inherited").forGetter(arena -> LongStream.of(arena.inherited.toLongArray())),
+        Codec.LONG_STREAM.fieldOf("unloaded_at_reset").forGetter(arena -> LongStream.of(arena.unloadedAtReset.toLongArray())),
+        Codec.LONG_STREAM.fieldOf("removals").forGetter(arena -> LongStream.of(arena.encodeRemovals()))
+    ).apply(instance, Arena::restore));
+
+    private final String name;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    private final List<LootPoint> lootPoints = new ArrayList<>();
+
+    // States of finished matches whose pieces are still being cleared
+    private final ArrayDeque<ArenaState> retiring = new ArrayDeque<>();
+
+    // Pieces that stood here before the arena existed, handed back when it is removed
+    private final LongOpenHashSet inherited = new LongOpenHashSet();
+
+    // Chunks that were unloaded at the last reset; their saved pieces are cleared once they load
+    private final LongOpenHashSet unloadedAtReset = new LongOpenHashSet();
+
+    // Queued removals held back while their chunk is unloaded, by chunk
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> heldBack = new Long2ObjectOpenHashMap<>();
+
+    private ArenaState state;
+
+    // Marked dirty whenever something saved changes
+    private ArenaManager manager;
+
+    Arena(String name, BlockPos from, BlockPos to, ArenaState state) {
+        this.name = name;
+        this.minX = BuildGrid.toCell(Math.min(from.getX(), to.getX()));
+        this.minY = BuildGrid.toCell(Math.min(from.getY(), to.getY()));
+        this.minZ = BuildGrid.toCell(Math.min(from.getZ(), to.getZ()));
+        this.maxX = BuildGrid.toCell(Math.max(from.getX(), to.getX()));
+        this.maxY = BuildGrid.toCell(Math.max(from.getY(), to.getY()));
+        this.maxZ = BuildGrid.toCell(Math.max(from.getZ(), to.getZ()));
+        this.state = state;
+    }
+
+    private static Arena restore(String name, BlockPos from, BlockPos to, List<LootPoint> lootPoints,
+                                 LongStream inherited, LongStream unloadedAtReset, LongStream removals) {
+        Arena arena = new Arena(name, from, to, ArenaStatePool.acquire());
+        arena.lootPoints.addAll(lootPoints);
+        inherited.forEach(arena.inherited::add);
+        unloadedAtReset.forEach(arena.unloadedAtReset::add);
+        arena.decodeRemovals(removals.toArray());
+        return arena;
+    }
+
+    void setManager(ArenaManager manager) {
+        this.manager = manager;
+    }
+
+    private void setDirty() {
+        if (manager != null) {
+            manager.setDirty();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private BlockPos minCorner() {
+        return new BlockPos(minX * BuildGrid.CELL_SIZE, minY * BuildGrid.CELL_SIZE, minZ * BuildGrid.CELL_SIZE);
+    }
+
+    private BlockPos maxCorner() {
+        return new BlockPos(maxX * BuildGrid.CELL_SIZE + BuildGrid.CELL_SIZE - 1,
+            maxY * BuildGrid.CELL_SIZE + BuildGrid.CELL_SIZE - 1,
+            maxZ * BuildGrid.CELL_SIZE + BuildGrid.CELL_SIZE - 1);
+    }
+
+    ArenaState state() {
+        return state;
+    }
+
+    public PieceIndex pieces() {
+        return state.pieces();
+    }
+
+    public boolean contains(int cellX, int cellY, int cellZ) {
+        return cellX >= minX && cellX <= maxX
+                && cellY >= minY && cellY <= maxY
+                && cellZ >= minZ && cellZ <= maxZ;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(BuildGrid.toCell(pos.getX()), BuildGrid.toCell(pos.getY()), BuildGrid.toCell(pos.getZ()));
+    }
+
+    public boolean intersects(Arena other) {
+        return minX <= other.maxX && maxX >= other.minX
+                && minY <= other.maxY && maxY >= other.minY
+                && minZ <= other.maxZ && maxZ >= other.minZ;
+    }
+
+    public List<LootPoint> lootPoints() {
+        return Collections.unmodifiableList(lootPoints);
+    }
+
+    public void addLootPoint(LootPoint point) {
+        lootPoints.add(point);
+        setDirty();
+    }
+
+    public void clearLootPoints() {
+        lootPoints.clear();
+        setDirty();
+    }
+
+    /**
+     * The centre of the arena in world coordinates, at its floor.
+     */
+    public BlockPos centre() {
+        return new BlockPos(
+            (minX + maxX + 1) * BuildGrid.CELL_SIZE / 2,
+            minY * BuildGrid.CELL_SIZE,
+            (minZ + maxZ + 1) * BuildGrid.CELL_SIZE / 2);
+    }
+
+    /**
+     * Whether this tick's build budget has room for another piece.
+     * Always false while a reset is still clearing old pieces: those are no longer
+     * in the arena's store, so their cells would look empty to placement and support checks.
+     */
+    public boolean canBuild(long gameTime, int budget) {
+        return !isResetting() && state.canBuild(gameTime, budget);
+    }
+
+    /**
+     * How many more pieces this tick's build budget allows, or 0 while a reset
+     * is still clearing old pieces.
+     */
+    public int remainingBuilds(long gameTime, int budget) {
+        return isResetting() ? 0 : state.remainingBuilds(gameTime, budget);
+    }
+
+
+    /**
+     * Takes a piece that was actually placed from this tick's build budget.
+     */
+    public void chargeBuild(long gameTime) {
+        state.chargeBuild(gameTime);
+    }
+
+    /**
+     * Records a piece that was standing in the region when the arena was created.
+     */
+    void inherit(BuildPiece piece) {
+        state.pieces().add(piece);
+        inherited.add(piece.id());
+        setDirty();
+    }
+
+    public boolean isResetting() {
+        return !retiring.isEmpty() || !state.pendingRemovals().isEmpty();
+    }
+
+    /**
+     * Retires every piece in the arena and starts the next match on a pooled state.
+     * The retired pieces are removed a budgeted number per tick, so a reset never
+     * stalls the server. Pieces saved in chunks that are not loaded are cleared
+     * when those chunks load. Returns the number of loaded pieces queued.
+     */
+    public int reset(Level level) {
+        LongLinkedOpenHashSet pending = state.pendingRemovals();
+        pending.addAll(state.pieces().ids());
+        int queued = pending.size();
+        retiring.add(state);
+        state = ArenaStatePool.acquire();
+        inherited.clear();
+
+        int minChunkX = SectionPos.blockToSectionCoord(minX * BuildGrid.CELL_SIZE);
+        int minChunkZ = SectionPos.blockToSectionCoord(minZ * BuildGrid.CELL_SIZE);
+        int maxChunkX = SectionPos.blockToSectionCoord(maxX * BuildGrid.CELL_SIZE + BuildGrid.CELL_SIZE - 1);
+        int maxChunkZ = SectionPos.blockToSectionCoord(maxZ * BuildGrid.CELL_SIZE + BuildGrid.CELL_SIZE - 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!level.hasChunk(chunkX, chunkZ)) {
+                    unloadedAtReset.add(ChunkPos.asLong(chunkX, chunkZ));
+                }
+            }
+        }
+        setDirty();
+        return queued;
+    }
+
+    /**
+     * Called when a chunk's saved pieces join the index. If the chunk missed the
+     * last reset its pieces in this arena are queued for removal, and so are
+     * any removals held back while it was unloaded.
+     */
+    void piecesLoaded(long chunk, LongSet ids) {
+        boolean all = unloadedAtReset.remove(chunk);
+        LongOpenHashSet held = heldBack.remove(chunk);
+        if (!all && held == null) {
+            return;
+        }
+        setDirty();
+        LongIterator it = ids.iterator();
+        while (it.hasNext()) {
+            long id = it.nextLong();
+            if (all ? contains(BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id)) : held.contains(id)) {
+                state.pendingRemovals().add(id);
+            }
+        }
+    }
+
+    /**
+     * Called when a chunk's pieces leave the index. Queued removals in that chunk
+     * are dropped from the queue and picked up again when the chunk loads, so
+     * the reset never writes to an unloaded chunk.
+     */
+    void piecesUnloaded(long chunk, LongSet ids) {
+        LongIterator it = ids.iterator();
+        while (it.hasNext()) {
+            long id = it.nextLong();
+            if (!contains(BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id))) {
+                continue;
+            }
+            boolean pending = state.pendingRemovals().remove(id);
+            for (ArenaState old : retiring) {
+                if (old.pendingRemovals().remove(id)) {
+                    old.pieces().remove(id);
+                    pending = true;
+                }
+            }
+            if (pending) {
+                heldBack.computeIfAbsent(chunk, c -> new LongOpenHashSet()).add(id);
+                setDirty();
+            }
+        }
+    }
+
+    /**
+     * Every removal still owed, grouped by the chunk that saves the piece:
+     * chunk, count, then that many piece ids. Queued removals of loaded pieces are
+     * included, so a restart part way through a reset still clears them when they load.
+     */
+    private long[] encodeRemovals() {
+        Long2ObjectOpenHashMap<LongOpenHashSet> byChunk = new Long2ObjectOpenHashMap<>();
+        for (Long2ObjectMap.Entry<LongOpenHashSet> held : heldBack.long2ObjectEntrySet()) {
+            byChunk.computeIfAbsent(held.getLongKey(), c -> new LongOpenHashSet()).addAll(held.getValue());
+        }
+        for (ArenaState old : retiring) {
+            addPending(old, byChunk);
+        }
+        // Released once the level unloads; whatever was owed then is already saved
+        if (state != null) {
+            addPending(state, byChunk);
+        }
+
+        LongArrayList data = new LongArrayList();
+        for (Long2ObjectMap.Entry<LongOpenHashSet> chunk : byChunk.long2ObjectEntrySet()) {
+            data.add(chunk.getLongKey());
+            data.add(chunk.getValue().size());
+            data.addAll(chunk.getValue());
+        }
+        return data.toLongArray();
+    }
+
+    private static void addPending(ArenaState from, Long2ObjectOpenHashMap<LongOpenHashSet> byChunk) {
+        LongIterator it = from.pendingRemovals().iterator();
+        while (it.hasNext()) {
+            BuildPiece piece = from.pieces().get(it.nextLong());
+            if (piece != null) {
+                long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(piece.anchor().getX()),
+                    SectionPos.blockToSectionCoord(piece.anchor().getZ()));
+                byChunk.computeIfAbsent(chunk, c -> new LongOpenHashSet()).add(piece.id());
+            }
+        }
+    }
+
+    private void decodeRemovals(long[] data) {
+        int i = 0;
+        while (i + 1 < data.length) {
+            long chunk = data[i++];
+            int count = (int) data[i++];
+            LongOpenHashSet ids = heldBack.computeIfAbsent(chunk, c -> new LongOpenHashSet());
+            for (int end = Math.min(i + count, data.length); i < end; i++) {
+                ids.add(data[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code budget} queued pieces in one bulk write,
+     * returning each retired state to the pool once it is empty.
+     */
+    void tick(Level level, int budget) {
+        if (!isResetting()) {
+            return;
+        }
+        try (BulkBuild bulk = BulkBuild.pieces(level)) {
+            while (budget > 0 && !retiring.isEmpty()) {
+                ArenaState old = retiring.peekFirst();
+                budget = drain(old, bulk, budget);
+                if (old.pendingRemovals().isEmpty()) {
+                    ArenaStatePool.release(retiring.pollFirst());
+                }
+            }
+            drain(state, bulk, budget);
+        }
+    }
+
+    private static int drain(ArenaState from, BulkBuild bulk, int budget) {
+        LongLinkedOpenHashSet pending = from.pendingRemovals();
+        while (budget > 0 && !pending.isEmpty()) {
+            // Pieces already broken during the match cost nothing
+            if (from.pieces().destroy(pending.removeFirstLong(), bulk) != null) {
+                budget--;
+            }
+        }
+        return budget;
+    }
+
+    /**
+     * Hands inherited pieces back to the level, removes every other piece
+     * right away and returns all state to the pool.
+     */
+    void close(Level level) {
+        PieceIndex outside = PieceIndex.of(level);
+        try (BulkBuild bulk = BulkBuild.pieces(level)) {
+            for (ArenaState old : retiring) {
+                drain(old, bulk, Integer.MAX_VALUE);
+                ArenaStatePool.release(old);
+            }
+            retiring.clear();
+
+            long[] ids = state.pieces().ids().toLongArray();
+            for (long id : ids) {
+                if (inherited.contains(id)) {
+                    outside.add(state.pieces().remove(id));
+                } else {
+                    state.pieces().destroy(id, bulk);
+                }
+            }
+        }
+        ArenaStatePool.release(state);
+        state = null;
+    }
+
+    /**
+     * Returns all state to the pool without touching the world, when the level unloads.
+     */
+    void release() {
+        retiring.forEach(ArenaStatePool::release);
+        retiring.clear();
+        ArenaStatePool.release(state);
+        state = null;
+    }
+}
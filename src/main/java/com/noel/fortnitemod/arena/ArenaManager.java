@@ -0,0 +1,193 @@
+package com.noel.fortnitemod.arena;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mojang.serialization.Codec;
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.build.BuildPiece;
+import com.noel.fortnitemod.build.PieceIndex;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.saveddata.SavedDataType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * The arenas of one level. Each arena owns the pieces inside its bounds,
+ * so lookups and resets in one arena never touch another arena's store.
+ * <p>
+ * Saved with the level, and loaded as soon as the level is, so every chunk
+ * that loads afterwards finds the arena that owns its pieces.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class ArenaManager extends SavedData {
+
+    private static final Map<LevelAccessor, ArenaManager> LEVELS = new IdentityHashMap<>();
+
+    private static final Codec<ArenaManager> CODEC = Arena.CODEC.listOf()
+        .xmap(ArenaManager::new, manager -> List.copyOf(manager.arenas))
+        .fieldOf("arenas").codec();
+
+    private static final SavedDataType<ArenaManager> TYPE = new SavedDataType<>(
+        Identifier.fromNamespaceAndPath(Fortnite.MODID, "arenas"), ArenaManager::new, CODEC, null);
+
+    private final Map<String, Arena> byName = new LinkedHashMap<>();
+
+    // Scanned linearly; a level only ever holds a handful of arenas
+    private final List<Arena> arenas = new ArrayList<>();
+
+    private ArenaManager() {
+    }
+
+    private ArenaManager(List<Arena> saved) {
+        for (Arena arena : saved) {
+            arena.setManager(this);
+            byName.put(arena.name(), arena);
+            arenas.add(arena);
+        }
+    }
+
+    public static ArenaManager of(ServerLevel level) {
+        return LEVELS.computeIfAbsent(level, l -> level.getDataStorage().computeIfAbsent(TYPE));
+    }
+
+    /**
+     * Returns the arena containing a cell, or null. Never creates a manager,
+     * so levels that were never loaded as server levels pay a single map miss.
+     */
+    public static Arena arenaAt(Level level, int cellX, int cellY, int cellZ) {
+        ArenaManager manager = LEVELS.get(level);
+        if (manager == null) {
+            return null;
+        }
+        for (Arena arena : manager.arenas) {
+            if (arena.contains(cellX, cellY, cellZ)) {
+                return arena;
+            }
+        }
+        return null;
+    }
+
+    public Arena get(String name) {
+        return byName.get(name);
+    }
+
+    public Collection<Arena> all() {
+        return byName.values();
+    }
+
+    /**
+     * Creates an arena over a region. Only the piece stores change: any pieces
+     * already standing in the region move into the new arena's store.
+     * Returns null if the name is taken or the region overlaps another arena.
+     */
+    public Arena create(Level level, String name, BlockPos from, BlockPos to) {
+        if (byName.containsKey(name)) {
+            return null;
+        }
+        Arena arena = new Arena(name, from, to, ArenaStatePool.acquire());
+        for (Arena other : arenas) {
+            if (other.intersects(arena)) {
+                ArenaStatePool.release(arena.state());
+                return null;
+            }
+        }
+
+        PieceIndex outside = PieceIndex.of(level);
+        for (long id : outside.ids().toLongArray()) {
+            if (arena.contains(BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id))) {
+                arena.inherit(outside.remove(id));
+            }
+        }
+
+        arena.setManager(this);
+        byName.put(name, arena);
+        arenas.add(arena);
+        setDirty();
+        return arena;
+    }
+
+    /**
+     * Removes an arena and every piece built in it. Pieces that stood in the
+     * region before the arena was created go back to the level.
+     */
+    public boolean remove(Level level, String name) {
+        Arena arena = byName.remove(name);
+        if (arena == null) {
+            return false;
+        }
+        arenas.remove(arena);
+        arena.close(level);
+        setDirty();
+        return true;
+    }
+
+    /**
+     * Lets arenas clear pieces from a chunk that loaded after their last reset.
+     */
+    public static void piecesLoaded(Level level, long chunk, LongSet ids) {
+        ArenaManager manager = LEVELS.get(level);
+        if (manager != null) {
+            for (Arena arena : manager.arenas) {
+                arena.piecesLoaded(chunk, ids);
+            }
+        }
+    }
+
+    /**
+     * Lets arenas hold back queued removals for a chunk that is unloading.
+     */
+    public static void piecesUnloaded(Level level, long chunk, LongSet ids) {
+        ArenaManager manager = LEVELS.get(level);
+        if (manager != null) {
+            for (Arena arena : manager.arenas) {
+                arena.piecesUnloaded(chunk, ids);
+            }
+        }
+    }
+
+    private void tick(Level level) {
+        int budget = Config.ARENA_RESET_PIECES_PER_TICK.getAsInt();
+        for (Arena arena : arenas) {
+            arena.tick(level, budget);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        ArenaManager manager = LEVELS.get(event.getLevel());
+        if (manager != null) {
+            manager.tick(event.getLevel());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            of(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        ArenaManager manager = LEVELS.remove(event.getLevel());
+        if (manager != null) {
+            for (Arena arena : manager.arenas) {
+                arena.release();
+            }
+        }
+    }
+}
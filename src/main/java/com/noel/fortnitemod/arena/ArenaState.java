@@ -0,0 +1,62 @@
+package com.noel.fortnitemod.arena;
+
+import com.noel.fortnitemod.build.PieceIndex;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+
+/**
+ * The per-match state of an arena: its piece store, build budget and reset queue.
+ * Instances are pooled by {@link ArenaStatePool} and reused between matches,
+ * so their hash tables and queues keep the capacity they grew to.
+ */
+public class ArenaState {
+
+    private final PieceIndex pieces = new PieceIndex();
+    // Insertion ordered, and a piece can leave the queue when its chunk unloads
+    private final LongLinkedOpenHashSet pendingRemovals = new LongLinkedOpenHashSet();
+
+    private long budgetTick = Long.MIN_VALUE;
+    private int builtThisTick;
+
+    public PieceIndex pieces() {
+        return pieces;
+    }
+
+    LongLinkedOpenHashSet pendingRemovals() {
+        return pendingRemovals;
+    }
+
+    /**
+     * Returns false once the arena has placed {@code budget} pieces this tick.
+     */
+    boolean canBuild(long gameTime, int budget) {
+        return budgetTick != gameTime || builtThisTick < budget;
+    }
+
+    /**
+     * How many more pieces fit in this tick's build budget.
+     */
+    int remainingBuilds(long gameTime, int budget) {
+        return budgetTick != gameTime ? budget : Math.max(budget - builtThisTick, 0);
+    }
+
+    /**
+     * Takes one placed piece from this tick's build budget.
+     */
+    void chargeBuild(long gameTime) {
+        if (budgetTick != gameTime) {
+            budgetTick = gameTime;
+            builtThisTick = 0;
+        }
+        builtThisTick++;
+    }
+
+    /**
+     * Forgets everything from the last match.
+     */
+    void clear() {
+        pieces.clear();
+        pendingRemovals.clear();
+        budgetTick = Long.MIN_VALUE;
+        builtThisTick = 0;
+    }
+}
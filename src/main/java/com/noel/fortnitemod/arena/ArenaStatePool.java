@@ -0,0 +1,29 @@
+package com.noel.fortnitemod.arena;
+
+import java.util.ArrayDeque;
+
+/**
+ * Recycles arena state between matches instead of reallocating it.
+ */
+final class ArenaStatePool {
+
+    // Enough for every arena a busy server runs at once
+    private static final int MAX_POOLED = 16;
+
+    private static final ArrayDeque<ArenaState> POOL = new ArrayDeque<>();
+
+    private ArenaStatePool() {
+    }
+
+    static ArenaState acquire() {
+        ArenaState state = POOL.pollFirst();
+        return state != null ? state : new ArenaState();
+    }
+
+    static void release(ArenaState state) {
+        state.clear();
+        if (POOL.size() < MAX_POOLED) {
+            POOL.addFirst(state);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.noel.fortnitemod.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+public class FloorPieceBlock extends Block {
+    
+    // 2 pixel slab on the bottom of the block, matching the block model
+    private static final VoxelShape SHAPE = Block.box(0, 0, 0, 16, 2, 16);
+    
+    public FloorPieceBlock(Properties properties) {
+        super(properties);
+    }
+    
+    @Override
+    protected VoxelShape getShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
+        return SHAPE;
+    }
+    
+    @Override
+    protected VoxelShape getOcclusionShape(BlockState state) {
+        return SHAPE;
+    }
+    
+    @Override
+    protected boolean useShapeForLightOcclusion(BlockState state) {
+        return true;
+    }
+}
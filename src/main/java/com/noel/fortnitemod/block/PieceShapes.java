@@ -0,0 +1,49 @@
+package com.noel.fortnitemod.block;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * Builds per-facing shape tables for build pieces.
+ * Tables are computed once when a block class loads, so shape lookups
+ * during collision, outline and face culling are a single map read.
+ */
+final class PieceShapes {
+
+    private PieceShapes() {
+    }
+
+    /**
+     * Rotates a shape drawn facing south into all four horizontal facings.
+     */
+    static Map<Direction, VoxelShape> horizontal(VoxelShape south) {
+        Map<Direction, VoxelShape> shapes = new EnumMap<>(Direction.class);
+        for (Direction facing : Direction.Plane.HORIZONTAL) {
+            shapes.put(facing, rotate(south, facing));
+        }
+        return shapes;
+    }
+
+    private static VoxelShape rotate(VoxelShape south, Direction facing) {
+        VoxelShape rotated = Shapes.empty();
+        for (AABB box : south.toAabbs()) {
+            rotated = Shapes.or(rotated, rotate(box, facing));
+        }
+        return rotated.optimize();
+    }
+
+    // Rotates clockwise around the block centre, seen from above
+    private static VoxelShape rotate(AABB box, Direction facing) {
+        return switch (facing) {
+            case WEST -> Shapes.box(1 - box.maxZ, box.minY, box.minX, 1 - box.minZ, box.maxY, box.maxX);
+            case NORTH -> Shapes.box(1 - box.maxX, box.minY, 1 - box.maxZ, 1 - box.minX, box.maxY, 1 - box.minZ);
+            case EAST -> Shapes.box(box.minZ, box.minY, 1 - box.maxX, box.maxZ, box.maxY, 1 - box.minX);
+            default -> Shapes.box(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+        };
+    }
+}
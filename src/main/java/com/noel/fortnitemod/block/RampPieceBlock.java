@@ -0,0 +1,59 @@
+package com.noel.fortnitemod.block;
+
+import java.util.Map;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+public class RampPieceBlock extends Block {
+    public static final EnumProperty<Direction> FACING = BlockStateProperties.HORIZONTAL_FACING;
+    
+    // Three steps rising towards FACING, matching the block model. Each step is
+    // lower than the player step height, so the ramp is walkable without jumping.
+    private static final Map<Direction, VoxelShape> SHAPES = PieceShapes.horizontal(Shapes.or(
+            Block.box(0, 0, 0, 16, 5, 16),
+            Block.box(0, 5, 5, 16, 11, 16),
+            Block.box(0, 11, 11, 16, 16, 16)
+    ));
+    
+    public RampPieceBlock(Properties properties) {
+        super(properties);
+        this.registerDefaultState(this.stateDefinition.any().setValue(FACING, Direction.NORTH));
+    }
+    
+    @Override
+    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
+        builder.add(FACING);
+    }
+    
+    @Override
+    public BlockState getStateForPlacement(BlockPlaceContext context) {
+        // Ramp faces away from player (you walk up it facing the direction you're looking)
+        return this.defaultBlockState().setValue(FACING, context.getHorizontalDirection());
+    }
+    
+    @Override
+    protected VoxelShape getShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
+        return SHAPES.get(state.getValue(FACING));
+    }
+    
+    @Override
+    protected VoxelShape getOcclusionShape(BlockState state) {
+        return SHAPES.get(state.getValue(FACING));
+    }
+    
+    @Override
+    protected boolean useShapeForLightOcclusion(BlockState state) {
+        return true;
+    }
+}
@@ -1,17 +1,26 @@
 package com.noel.fortnitemod.block;
 
+import java.util.Map;
+
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
 
-public class WoodWallBlock extends Block {
+public class WallPieceBlock extends Block {
     public static final EnumProperty<Direction> FACING = BlockStateProperties.HORIZONTAL_FACING;
     
-    public WoodWallBlock(Properties properties) {
+    // 4 pixel thick panel through the middle of the block, spanning its full width
+    private static final Map<Direction, VoxelShape> SHAPES = PieceShapes.horizontal(Block.box(0, 0, 6, 16, 16, 10));
+    
+    public WallPieceBlock(Properties properties) {
         super(properties);
         this.registerDefaultState(this.stateDefinition.any().setValue(FACING, Direction.NORTH));
     }
@@ -25,4 +34,16 @@ public class WoodWallBlock extends Block {
     public BlockState getStateForPlacement(BlockPlaceContext context) {
         return this.defaultBlockState().setValue(FACING, context.getHorizontalDirection().getOpposite());
     }
+    
+    @Override
+    protected VoxelShape getShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
+        return SHAPES.get(state.getValue(FACING));
+    }
+    
+    // The panel covers no whole face, so it blocks light exactly like air and
+    // does not opt into shape light occlusion: placing walls queues no light checks
+    @Override
+    protected VoxelShape getOcclusionShape(BlockState state) {
+        return SHAPES.get(state.getValue(FACING));
+    }
 }
@@ -1,29 +0,0 @@
-package com.noel.fortnitemod.block;
-
-import net.minecraft.core.Direction;
-import net.minecraft.world.item.context.BlockPlaceContext;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.StateDefinition;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.level.block.state.properties.EnumProperty;
-
-public class WoodRampBlock extends Block {
-    public static final EnumProperty<Direction> FACING = BlockStateProperties.HORIZONTAL_FACING;
-    
-    public WoodRampBlock(Properties properties) {
-        super(properties);
-        this.registerDefaultState(this.stateDefinition.any().setValue(FACING, Direction.NORTH));
-    }
-    
-    @Override
-    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
-        builder.add(FACING);
-    }
-    
-    @Override
-    public BlockState getStateForPlacement(BlockPlaceContext context) {
-        // Ramp faces away from player (you walk up it facing the direction you're looking)
-        return this.defaultBlockState().setValue(FACING, context.getHorizontalDirection());
-    }
-}
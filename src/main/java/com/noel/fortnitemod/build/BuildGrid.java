@@ -0,0 +1,163 @@
+package com.noel.fortnitemod.build;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+
+/**
+ * The build grid that every piece is aligned to.
+ * Cells are 3x3x3 block cubes starting at multiples of {@link #CELL_SIZE},
+ * so neighbouring pieces always line up without searching for each other.
+ */
+public final class BuildGrid {
+
+    // Pieces are 3 blocks wide, deep and high
+    public static final int CELL_SIZE = 3;
+
+    private BuildGrid() {
+    }
+
+    /**
+     * Called for every cell a traversal passes through.
+     * Return false to stop the traversal early.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        boolean visit(int cellX, int cellY, int cellZ);
+    }
+
+    /**
+     * Converts a block coordinate to the cell coordinate containing it.
+     */
+    public static int toCell(int blockCoord) {
+        return Math.floorDiv(blockCoord, CELL_SIZE);
+    }
+
+    /**
+     * Converts a world coordinate to the cell coordinate containing it.
+     */
+    public static int toCell(double worldCoord) {
+        return Mth.floor(worldCoord / CELL_SIZE);
+    }
+
+    /**
+     * Packs cell coordinates into one long, using the same layout as {@link BlockPos#asLong}.
+     */
+    public static long pack(int cellX, int cellY, int cellZ) {
+        return BlockPos.asLong(cellX, cellY, cellZ);
+    }
+
+    public static int unpackX(long cell) {
+        return BlockPos.getX(cell);
+    }
+
+    public static int unpackY(long cell) {
+        return BlockPos.getY(cell);
+    }
+
+    public static int unpackZ(long cell) {
+        return BlockPos.getZ(cell);
+    }
+
+    /**
+     * Returns the world coordinate of the centre of a cell along one axis.
+     */
+    public static double cellCentre(int cellCoord) {
+        return cellCoord * CELL_SIZE + CELL_SIZE / 2.0;
+    }
+
+    /**
+     * Returns the position a piece is built from inside a cell.
+     * Walls and floors grow out from the bottom centre of the cell,
+     * ramps start at the back edge so they climb across the cell.
+     */
+    public static BlockPos anchor(PieceType type, int cellX, int cellY, int cellZ, Direction facing) {
+        return anchor(type, cellX, cellY, cellZ, facing, new BlockPos.MutableBlockPos()).immutable();
+    }
+
+    /**
+     * Same as {@link #anchor(PieceType, int, int, int, Direction)}, writing into {@code out}.
+     */
+    public static BlockPos.MutableBlockPos anchor(PieceType type, int cellX, int cellY, int cellZ, Direction facing,
+                                                  BlockPos.MutableBlockPos out) {
+        int x = cellX * CELL_SIZE + 1;
+        int y = cellY * CELL_SIZE;
+        int z = cellZ * CELL_SIZE + 1;
+        if (type == PieceType.RAMP) {
+            x -= facing.getStepX();
+            z -= facing.getStepZ();
+        }
+        return out.set(x, y, z);
+    }
+
+    /**
+     * Walks every cell crossed by the segment between two world positions,
+     * in order, using a 3D DDA (Amanatides-Woo) traversal.
+     * Visits at most {@code maxCells} cells and allocates nothing.
+     */
+    public static void traverse(double fromX, double fromY, double fromZ,
+                                double toX, double toY, double toZ,
+                                int maxCells, CellVisitor visitor) {
+        // Work in cell units so each step crosses exactly one cell boundary
+        double startX = fromX / CELL_SIZE;
+        double startY = fromY / CELL_SIZE;
+        double startZ = fromZ / CELL_SIZE;
+        double dx = toX / CELL_SIZE - startX;
+        double dy = toY / CELL_SIZE - startY;
+        double dz = toZ / CELL_SIZE - startZ;
+
+        int cellX = Mth.floor(startX);
+        int cellY = Mth.floor(startY);
+        int cellZ = Mth.floor(startZ);
+        int endX = toCell(toX);
+        int endY = toCell(toY);
+        int endZ = toCell(toZ);
+
+        int stepX = (int) Math.signum(dx);
+        int stepY = (int) Math.signum(dy);
+        int stepZ = (int) Math.signum(dz);
+
+        // Fraction of the segment needed to cross one whole cell on each axis
+        double deltaX = stepX == 0 ? Double.MAX_VALUE : Math.abs(1.0 / dx);
+        double deltaY = stepY == 0 ? Double.MAX_VALUE : Math.abs(1.0 / dy);
+        double deltaZ = stepZ == 0 ? Double.MAX_VALUE : Math.abs(1.0 / dz);
+
+        // Fraction of the segment at which the next boundary on each axis is crossed
+        double nextX = boundary(stepX, startX, cellX, deltaX);
+        double nextY = boundary(stepY, startY, cellY, deltaY);
+        double nextZ = boundary(stepZ, startZ, cellZ, deltaZ);
+
+        for (int i = 0; i < maxCells; i++) {
+            if (!visitor.visit(cellX, cellY, cellZ)) {
+                return;
+            }
+            if (cellX == endX && cellY == endY && cellZ == endZ) {
+                return;
+            }
+
+            if (nextX < nextY && nextX < nextZ) {
+                if (nextX > 1.0) return;
+                cellX += stepX;
+                nextX += deltaX;
+            } else if (nextY < nextZ) {
+                if (nextY > 1.0) return;
+                cellY += stepY;
+                nextY += deltaY;
+            } else {
+                if (nextZ > 1.0) return;
+                cellZ += stepZ;
+                nextZ += deltaZ;
+            }
+        }
+    }
+
+    private static double boundary(int step, double start, int cell, double delta) {
+        if (step > 0) {
+            return (cell + 1 - start) * delta;
+        }
+        if (step < 0) {
+            return (start - cell) * delta;
+        }
+        return Double.MAX_VALUE;
+    }
+}
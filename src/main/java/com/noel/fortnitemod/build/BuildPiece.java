@@ -0,0 +1,221 @@
+package com.noel.fortnitemod.build;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * One placed build piece.
+ * <p>
+ * A piece is identified by its grid cell and slot, packed into a single long,
+ * so the id of the piece occupying a cell can be computed without a lookup.
+ * Two walls on the same axis share a slot because they cover the same blocks.
+ */
+public class BuildPiece {
+
+    // Bit layout of a piece id: x (25) | z (25) | y (11) | slot (3)
+    private static final int SLOT_BITS = 3;
+    private static final int Y_BITS = 11;
+    private static final int XZ_BITS = 25;
+    private static final int Y_SHIFT = SLOT_BITS;
+    private static final int Z_SHIFT = Y_SHIFT + Y_BITS;
+    private static final int X_SHIFT = Z_SHIFT + XZ_BITS;
+    private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+
+    public static final int ALL_TILES = (1 << PieceType.TILE_COUNT) - 1;
+
+    // Both wall axes, the floor, and each ramp direction
+    public static final int SLOT_COUNT = 7;
+
+    private final long id;
+    private final PieceType type;
+    private final PieceMaterial material;
+    private final Direction facing;
+    private final BlockPos anchor;
+
+    // Bit per tile that this piece claimed when it was placed
+    private int tiles;
+
+    // Bit per tile left standing by edits (windows, doors, arches...)
+    private int mask = ALL_TILES;
+
+    // Build-up runs from buildStart to buildEnd, health in between is worked out on demand
+    private long buildStart;
+    private long buildEnd;
+    private float damageTaken;
+
+    public BuildPiece(PieceType type, PieceMaterial material, int cellX, int cellY, int cellZ, Direction facing, int tiles) {
+        this.id = id(type, cellX, cellY, cellZ, facing);
+        this.type = type;
+        this.material = material;
+        this.facing = facing;
+        this.anchor = BuildGrid.anchor(type, cellX, cellY, cellZ, facing);
+        this.tiles = tiles;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public PieceType type() {
+        return type;
+    }
+
+    public PieceMaterial material() {
+        return material;
+    }
+
+    public Direction facing() {
+        return facing;
+    }
+
+    public BlockPos anchor() {
+        return anchor;
+    }
+
+    public int cellX() {
+        return cellX(id);
+    }
+
+    public int cellY() {
+        return cellY(id);
+    }
+
+    public int cellZ() {
+        return cellZ(id);
+    }
+
+    public int tiles() {
+        return tiles;
+    }
+
+    public void setTiles(int tiles) {
+        this.tiles = tiles & ALL_TILES;
+    }
+
+    public int mask() {
+        return mask;
+    }
+
+    public void setMask(int mask) {
+        this.mask = mask & ALL_TILES;
+    }
+
+    /**
+     * Tiles that are actually blocks in the world: claimed and not edited out.
+     */
+    public int solidTiles() {
+        return tiles & mask;
+    }
+
+    public boolean hasTile(int tile) {
+        return (solidTiles() & (1 << tile)) != 0;
+    }
+
+    /**
+     * Starts the piece at its material's spawn health, growing to full health
+     * over the material's build time. Returns the game time build-up ends.
+     */
+    public long startBuild(long gameTime) {
+        buildStart = gameTime;
+        buildEnd = gameTime + material.buildTicks();
+        return buildEnd;
+    }
+
+    public boolean isBuilding() {
+        return buildEnd != 0;
+    }
+
+    public long buildEnd() {
+        return buildEnd;
+    }
+
+    public void finishBuild() {
+        buildEnd = 0;
+    }
+
+    /**
+     * Current health, counting build-up so far and any damage taken.
+     */
+    public float health(long gameTime) {
+        float grown = material.maxHealth();
+        if (buildEnd != 0 && gameTime < buildEnd) {
+            float progress = (float) (gameTime - buildStart) / (buildEnd - buildStart);
+            grown = material.startHealth() + (material.maxHealth() - material.startHealth()) * Math.max(progress, 0);
+        }
+        return grown - damageTaken;
+    }
+
+    /**
+     * Sets the health of a fully built piece, when loading it from disk.
+     */
+    public void restoreHealth(float health) {
+        buildEnd = 0;
+        damageTaken = material.maxHealth() - health;
+    }
+
+    /**
+     * Damages the piece. Returns true if that left it with no health.
+     */
+    public boolean damage(float amount, long gameTime) {
+        damageTaken += amount;
+        return health(gameTime) <= 0;
+    }
+
+    /**
+     * The block state every solid tile of this piece holds.
+     */
+    public BlockState state() {
+        return type.stateFor(material, facing);
+    }
+
+    /**
+     * Writes the block position of one tile into {@code out}.
+     */
+    public BlockPos.MutableBlockPos tilePos(int tile, BlockPos.MutableBlockPos out) {
+        return type.tilePos(anchor, facing, tile, out);
+    }
+
+    /**
+     * Packs a cell and the slot a piece takes up in it into a piece id.
+     */
+    public static long id(PieceType type, int cellX, int cellY, int cellZ, Direction facing) {
+        return idInSlot(cellX, cellY, cellZ, slot(type, facing));
+    }
+
+    /**
+     * The id of whatever piece takes up one slot of a cell, for scanning every piece in a cell.
+     */
+    public static long idInSlot(int cellX, int cellY, int cellZ, int slot) {
+        return ((cellX & XZ_MASK) << X_SHIFT)
+                | ((cellZ & XZ_MASK) << Z_SHIFT)
+                | ((cellY & Y_MASK) << Y_SHIFT)
+                | slot;
+    }
+
+    public static int cellX(long id) {
+        return (int) (id << (64 - X_SHIFT - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    public static int cellY(long id) {
+        return (int) (id << (64 - Y_SHIFT - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    public static int cellZ(long id) {
+        return (int) (id << (64 - Z_SHIFT - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * The slot a piece takes up in its cell: one per wall axis,
+     * one for the floor, and one per ramp direction.
+     */
+    private static int slot(PieceType type, Direction facing) {
+        return switch (type) {
+            case WALL -> facing.getAxis() == Direction.Axis.X ? 0 : 1;
+            case FLOOR -> 2;
+            case RAMP -> 3 + facing.get2DDataValue();
+        };
+    }
+}
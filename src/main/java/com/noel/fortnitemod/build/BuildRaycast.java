@@ -0,0 +1,127 @@
+package com.noel.fortnitemod.build;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Picks the build cell a player is aiming at without needing a block hit,
+ * so pieces can be built off the edge of a floor into empty space.
+ * Walks grid cells along the look vector and returns the first one that is
+ * free and touches something to hold it up (terrain or another piece).
+ * <p>
+ * Keep one instance per thread and reuse it; a pick allocates nothing.
+ */
+public class BuildRaycast implements BuildGrid.CellVisitor {
+
+    public static final long NO_CELL = Long.MIN_VALUE;
+
+    // A reach ray never crosses more cells than this
+    private static final int MAX_CELLS = 16;
+
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+    private Level level;
+    private PieceType type;
+    private Direction facing;
+    private long feetCell;
+    private long eyeCell;
+    private long result;
+
+    /**
+     * Returns the packed cell (see {@link BuildGrid#pack}) to build the piece in,
+     * or {@link #NO_CELL} if nothing valid is in range.
+     */
+    public long pick(Level level, Player player, PieceType type, double range) {
+        Vec3 eye = player.getEyePosition();
+        Vec3 look = player.getViewVector(1.0F);
+        this.level = level;
+        this.type = type;
+        this.facing = player.getDirection();
+        this.feetCell = BuildGrid.pack(BuildGrid.toCell(player.getX()), BuildGrid.toCell(player.getY()), BuildGrid.toCell(player.getZ()));
+        this.eyeCell = BuildGrid.pack(BuildGrid.toCell(eye.x), BuildGrid.toCell(eye.y), BuildGrid.toCell(eye.z));
+        this.result = NO_CELL;
+
+        BuildGrid.traverse(
+            eye.x, eye.y, eye.z,
+            eye.x + look.x * range, eye.y + look.y * range, eye.z + look.z * range,
+            MAX_CELLS, this);
+
+        this.level = null;
+        return result;
+    }
+
+    @Override
+    public boolean visit(int cellX, int cellY, int cellZ) {
+        long cell = BuildGrid.pack(cellX, cellY, cellZ);
+
+        // Never build through the player
+        if (cell == feetCell || cell == eyeCell) {
+            return true;
+        }
+
+        BlockPos anchor = BuildGrid.anchor(type, cellX, cellY, cellZ, facing, cursor);
+        if (!level.isInWorldBounds(anchor)) {
+            return false;
+        }
+
+        // Terrain in the way ends the ray
+        if (!level.getBlockState(anchor).canBeReplaced()) {
+            return false;
+        }
+
+        if (isSupported(cellX, cellY, cellZ)) {
+            result = cell;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * A cell is supported by a piece in it or in a neighbouring cell, or by terrain
+     * right against it. Pieces are found by id in the piece index; terrain only
+     * needs the layer underneath and the centre of each other face, not a volume scan.
+     */
+    private boolean isSupported(int cellX, int cellY, int cellZ) {
+        if (PieceIndex.anyInCell(level, cellX, cellY, cellZ)) return true;
+        for (Direction dir : Direction.values()) {
+            if (PieceIndex.anyInCell(level, cellX + dir.getStepX(), cellY + dir.getStepY(), cellZ + dir.getStepZ())) {
+                return true;
+            }
+        }
+
+        int minX = cellX * BuildGrid.CELL_SIZE;
+        int minY = cellY * BuildGrid.CELL_SIZE;
+        int minZ = cellZ * BuildGrid.CELL_SIZE;
+
+        // Ground underneath is by far the common case, and may be uneven
+        for (int x = minX; x < minX + BuildGrid.CELL_SIZE; x++) {
+            for (int z = minZ; z < minZ + BuildGrid.CELL_SIZE; z++) {
+                if (isSolid(x, minY - 1, z)) return true;
+            }
+        }
+
+        int midX = minX + 1;
+        int midY = minY + 1;
+        int midZ = minZ + 1;
+        return isSolid(midX, minY + BuildGrid.CELL_SIZE, midZ)
+                || isSolid(minX - 1, midY, midZ)
+                || isSolid(minX + BuildGrid.CELL_SIZE, midY, midZ)
+                || isSolid(midX, midY, minZ - 1)
+                || isSolid(midX, midY, minZ + BuildGrid.CELL_SIZE);
+    }
+
+    private boolean isSolid(int x, int y, int z) {
+        return !level.getBlockState(cursor.set(x, y, z)).canBeReplaced();
+    }
+
+    /**
+     * Reach used for air building, matching the vanilla block interaction range.
+     */
+    public static double buildRange(Player player) {
+        return Mth.clamp(player.blockInteractionRange(), 0.0, MAX_CELLS * BuildGrid.CELL_SIZE);
+    }
+}
@@ -0,0 +1,159 @@
+package com.noel.fortnitemod.build;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Bulk-build context for placement, reset, prefab and loot writes.
+ * <p>
+ * Writes made through the context skip the per-block neighbour and shape
+ * updates a plain {@code setBlock(..., 3)} triggers, which otherwise cascade
+ * through every adjacent piece block. When the context closes it runs one
+ * update pass over the boundary of the touched region: blocks inside the
+ * region were written by us and already have their final state, so only
+ * outside neighbours need to hear about the change. Those neighbours are
+ * collected once each and updated section by section. Light is not deferred,
+ * see {@link #close()}.
+ * <p>
+ * Writes are sent to clients as block updates, unless the context was made
+ * with {@link #pieces}: piece writes skip block packets, and callers queue
+ * the piece on {@link PieceSync} so clients rebuild the blocks from it.
+ * <pre>
+ * try (BulkBuild bulk = BulkBuild.pieces(level)) {
+ *     bulk.setBlock(pos, state);
+ *     PieceSync.changed(level, piece);
+ * }
+ * </pre>
+ */
+public class BulkBuild implements AutoCloseable {
+
+    // No neighbour updates, no shape updates, and no block update packets
+    private static final int PIECE_FLAGS = Block.UPDATE_KNOWN_SHAPE;
+
+    // No neighbour or shape updates, but synced block by block. Also used for
+    // neighbours outside the touched region
+    private static final int SYNCED_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+
+    private final Level level;
+    private final int flags;
+    private final LongOpenHashSet touched = new LongOpenHashSet();
+
+    // Outside neighbours of the touched region, grouped by section, and the block that changed next to each
+    private final Long2ObjectOpenHashMap<LongArrayList> neighboursBySection = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Block> changedNextTo = new Long2ObjectOpenHashMap<>();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+
+    public BulkBuild(Level level) {
+        this(level, SYNCED_FLAGS);
+    }
+
+    private BulkBuild(Level level, int flags) {
+        this.level = level;
+        this.flags = flags;
+    }
+
+    /**
+     * A context for piece blocks only, which sends no block updates.
+     * Every piece written through it must be queued on {@link PieceSync}.
+     */
+    public static BulkBuild pieces(Level level) {
+        return new BulkBuild(level, PIECE_FLAGS);
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    /**
+     * Writes a block without updating its neighbours yet.
+     * Returns true if the block changed.
+     */
+    public boolean setBlock(BlockPos pos, BlockState state) {
+        if (!level.setBlock(pos, state, flags)) {
+            return false;
+        }
+        touched.add(pos.asLong());
+        return true;
+    }
+
+    /**
+     * Clears a block without updating its neighbours yet.
+     */
+    public boolean removeBlock(BlockPos pos) {
+        return setBlock(pos, Blocks.AIR.defaultBlockState());
+    }
+
+    /**
+     * Number of distinct blocks written so far.
+     */
+    public int size() {
+        return touched.size();
+    }
+
+    /**
+     * Runs the deferred neighbour pass over the touched region.
+     * <p>
+     * Every outside neighbour is updated once, however many touched blocks it
+     * borders, and the updates run one section at a time so consecutive reads
+     * stay in the same chunk section.
+     * <p>
+     * There is no coalesced light pass. Writes go through {@code Level.setBlock},
+     * and the chunk queues a light check for every block whose light properties
+     * change. Wall pieces light like air and queue none, but floors and ramps
+     * still cost one check per block. Relighting per section would need writes
+     * straight into the chunk sections, bypassing heightmaps, block entities
+     * and save tracking, for no public per-section relight to hand them to.
+     */
+    @Override
+    public void close() {
+        LongIterator it = touched.iterator();
+        while (it.hasNext()) {
+            cursor.set(it.nextLong());
+            Block changed = null;
+
+            for (Direction dir : Direction.values()) {
+                neighbour.setWithOffset(cursor, dir);
+                long pos = neighbour.asLong();
+                if (touched.contains(pos) || changedNextTo.containsKey(pos)) {
+                    continue;
+                }
+                if (changed == null) {
+                    changed = level.getBlockState(cursor).getBlock();
+                }
+                changedNextTo.put(pos, changed);
+                neighboursBySection.computeIfAbsent(SectionPos.asLong(neighbour), s -> new LongArrayList()).add(pos);
+            }
+        }
+
+        for (Long2ObjectMap.Entry<LongArrayList> section : neighboursBySection.long2ObjectEntrySet()) {
+            LongArrayList positions = section.getValue();
+            for (int i = 0; i < positions.size(); i++) {
+                long pos = positions.getLong(i);
+                neighbour.set(pos);
+
+                // Let shape-dependent neighbours (fences, panes, stairs) re-check once
+                BlockState neighbourState = level.getBlockState(neighbour);
+                BlockState updated = Block.updateFromNeighbourShapes(neighbourState, level, neighbour);
+                if (updated != neighbourState) {
+                    level.setBlock(neighbour, updated, SYNCED_FLAGS);
+                }
+                level.neighborChanged(neighbour, changedNextTo.get(pos), null);
+            }
+        }
+
+        touched.clear();
+        neighboursBySection.clear();
+        changedNextTo.clear();
+    }
+}
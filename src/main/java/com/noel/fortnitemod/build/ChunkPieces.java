@@ -0,0 +1,80 @@
+package com.noel.fortnitemod.build;
+
+import java.util.Arrays;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.Direction;
+
+/**
+ * The build pieces anchored in one chunk, attached to the chunk so they are
+ * saved and loaded with it.
+ * <p>
+ * The pieces are the same objects the {@link PieceIndex} holds, so edits and
+ * damage are picked up at save time without copying. On disk each piece is
+ * two longs in one long array: its id (cell and slot), then type, facing,
+ * material, claimed tiles, edit mask and health.
+ */
+public class ChunkPieces {
+
+    // Meta layout: health (32) | unused (8) | mask (9) | tiles (9) | material (2) | facing (2) | type (2)
+    private static final int FACING_SHIFT = 2;
+    private static final int MATERIAL_SHIFT = 4;
+    private static final int TILES_SHIFT = 6;
+    private static final int MASK_SHIFT = 15;
+    private static final int HEALTH_SHIFT = 32;
+
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final PieceMaterial[] MATERIALS = PieceMaterial.values();
+
+    public static final MapCodec<ChunkPieces> CODEC = Codec.LONG_STREAM
+        .xmap(stream -> decode(stream.toArray()), pieces -> Arrays.stream(pieces.encode()))
+        .fieldOf("pieces");
+
+    private final Long2ObjectOpenHashMap<BuildPiece> pieces = new Long2ObjectOpenHashMap<>();
+
+    public Long2ObjectOpenHashMap<BuildPiece> pieces() {
+        return pieces;
+    }
+
+    public boolean isEmpty() {
+        return pieces.isEmpty();
+    }
+
+    private long[] encode() {
+        long[] data = new long[pieces.size() * 2];
+        int i = 0;
+        for (BuildPiece piece : pieces.values()) {
+            // Save-time health, build-up still in progress counts as done
+            float health = piece.health(Long.MAX_VALUE);
+            data[i++] = piece.id();
+            data[i++] = piece.type().ordinal()
+                | (long) piece.facing().get2DDataValue() << FACING_SHIFT
+                | (long) piece.material().ordinal() << MATERIAL_SHIFT
+                | (long) piece.tiles() << TILES_SHIFT
+                | (long) piece.mask() << MASK_SHIFT
+                | (long) Float.floatToIntBits(health) << HEALTH_SHIFT;
+        }
+        return data;
+    }
+
+    private static ChunkPieces decode(long[] data) {
+        ChunkPieces chunk = new ChunkPieces();
+        for (int i = 0; i + 1 < data.length; i += 2) {
+            long id = data[i];
+            long meta = data[i + 1];
+            PieceType type = TYPES[(int) meta & 3];
+            Direction facing = Direction.from2DDataValue((int) (meta >>> FACING_SHIFT) & 3);
+            PieceMaterial material = MATERIALS[(int) (meta >>> MATERIAL_SHIFT) & 3];
+
+            BuildPiece piece = new BuildPiece(type, material,
+                BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id), facing,
+                (int) (meta >>> TILES_SHIFT) & BuildPiece.ALL_TILES);
+            piece.setMask((int) (meta >>> MASK_SHIFT) & BuildPiece.ALL_TILES);
+            piece.restoreHealth(Float.intBitsToFloat((int) (meta >>> HEALTH_SHIFT)));
+            chunk.pieces.put(piece.id(), piece);
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,43 @@
+package com.noel.fortnitemod.build;
+
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+
+/**
+ * Breaking any member block of a piece removes the whole piece,
+ * instead of leaving a ragged hole in a wall.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceBreakHandler {
+
+    @SubscribeEvent
+    public static void onBlockBreak(BlockEvent.BreakEvent event) {
+        if (!(event.getLevel() instanceof Level level) || level.isClientSide()) {
+            return;
+        }
+
+        BlockPos pos = event.getPos();
+        PieceIndex index = PieceIndex.forPos(level, pos);
+        BuildPiece piece = index.pieceAt(pos);
+        if (piece == null) {
+            return;
+        }
+
+        BlockState state = event.getState();
+        try (BulkBuild bulk = BulkBuild.pieces(level)) {
+            index.destroy(piece.id(), bulk);
+        }
+
+        // One set of break particles and sound for the whole piece
+        level.levelEvent(null, LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(state));
+
+        event.setCanceled(true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.noel.fortnitemod.build;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Finds the first build piece along a segment, for projectiles.
+ * <p>
+ * Every piece lies inside its own grid cell, so the build grid doubles as a
+ * uniform-grid broadphase: the segment is walked cell by cell and only the
+ * few piece slots of each cell are looked up. The first cell holding a hit
+ * piece ends the walk, since pieces in later cells are always further away.
+ * <p>
+ * Keep one instance per thread and reuse it.
+ */
+public class PieceBroadphase implements BuildGrid.CellVisitor {
+
+    public record Hit(BuildPiece piece, Vec3 location) {
+    }
+
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final BuildPiece[] inCell = new BuildPiece[BuildPiece.SLOT_COUNT];
+
+    private Level level;
+    private Vec3 from;
+    private Vec3 to;
+    private BuildPiece hitPiece;
+    private Vec3 hitLocation;
+    private double hitDistance;
+
+    /**
+     * Returns the first piece the segment hits, or null.
+     */
+    public Hit raycast(Level level, Vec3 from, Vec3 to) {
+        this.level = level;
+        this.from = from;
+        this.to = to;
+        this.hitPiece = null;
+        this.hitLocation = null;
+        this.hitDistance = Double.MAX_VALUE;
+
+        // Each step crosses one cell boundary, so this reaches the end of a segment of any length
+        int cells = Math.abs(BuildGrid.toCell(to.x) - BuildGrid.toCell(from.x))
+                + Math.abs(BuildGrid.toCell(to.y) - BuildGrid.toCell(from.y))
+                + Math.abs(BuildGrid.toCell(to.z) - BuildGrid.toCell(from.z)) + 1;
+        BuildGrid.traverse(from.x, from.y, from.z, to.x, to.y, to.z, cells, this);
+
+        Hit hit = hitPiece == null ? null : new Hit(hitPiece, hitLocation);
+        this.level = null;
+        this.hitPiece = null;
+        return hit;
+    }
+
+    @Override
+    public boolean visit(int cellX, int cellY, int cellZ) {
+        int count = PieceIndex.forCell(level, cellX, cellY, cellZ).inCell(cellX, cellY, cellZ, inCell);
+        for (int i = 0; i < count; i++) {
+            clip(inCell[i]);
+        }
+        return hitPiece == null;
+    }
+
+    // Narrow phase: the actual block shapes of the piece's solid tiles
+    private void clip(BuildPiece piece) {
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            if (!piece.hasTile(tile)) {
+                continue;
+            }
+            piece.tilePos(tile, cursor);
+            BlockState state = level.getBlockState(cursor);
+            BlockHitResult hit = state.getShape(level, cursor).clip(from, to, cursor);
+            if (hit == null) {
+                continue;
+            }
+            double distance = hit.getLocation().distanceToSqr(from);
+            if (distance < hitDistance) {
+                hitDistance = distance;
+                hitPiece = piece;
+                hitLocation = hit.getLocation();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.noel.fortnitemod.build;
+
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.ProjectileImpactEvent;
+
+/**
+ * Damage against build pieces. A hit damages the piece as a whole, and a
+ * piece out of health is removed in one go, whichever tile was hit.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceDamage {
+
+    // Server thread only
+    private static final PieceBroadphase BROADPHASE = new PieceBroadphase();
+
+    /**
+     * Damages a piece, removing it if that leaves it with no health.
+     * Returns true if the piece was destroyed.
+     */
+    public static boolean damage(Level level, BuildPiece piece, float amount) {
+        boolean destroyed;
+        try (BulkBuild bulk = BulkBuild.pieces(level)) {
+            destroyed = damage(piece, amount, bulk);
+        }
+        if (destroyed) {
+            level.levelEvent(null, LevelEvent.PARTICLES_DESTROY_BLOCK, piece.anchor(),
+                Block.getId(piece.state()));
+        }
+        return destroyed;
+    }
+
+    /**
+     * Same as {@link #damage(Level, BuildPiece, float)}, removing the piece through
+     * a caller's bulk context so many pieces can go in one batch.
+     */
+    public static boolean damage(BuildPiece piece, float amount, BulkBuild bulk) {
+        Level level = bulk.level();
+        if (!piece.damage(amount, level.getGameTime())) {
+            PieceSync.changed(level, piece);
+            PieceStorage.changed(level, piece);
+            return false;
+        }
+        PieceIndex.forPiece(level, piece.id()).destroy(piece.id(), bulk);
+        return true;
+    }
+
+    @SubscribeEvent
+    public static void onProjectileImpact(ProjectileImpactEvent event) {
+        Projectile projectile = event.getProjectile();
+        if (!(projectile.level() instanceof ServerLevel level)
+                || event.getRayTraceResult().getType() != HitResult.Type.BLOCK) {
+            return;
+        }
+
+        // Walk this tick's path through the broadphase, nudged past the surface so the hit cell is included
+        Vec3 from = projectile.position();
+        Vec3 to = event.getRayTraceResult().getLocation().add(projectile.getDeltaMovement().normalize().scale(0.05));
+        PieceBroadphase.Hit hit = BROADPHASE.raycast(level, from, to);
+        if (hit == null) {
+            return;
+        }
+
+        // A destroyed piece no longer stops the projectile
+        if (damage(level, hit.piece(), Config.PROJECTILE_PIECE_DAMAGE.getAsInt())) {
+            event.setCanceled(true);
+        }
+    }
+}
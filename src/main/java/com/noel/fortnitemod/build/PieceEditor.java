@@ -0,0 +1,149 @@
+package com.noel.fortnitemod.build;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+/**
+ * Edit mode: reshape a placed piece by toggling its 9 tiles.
+ * <p>
+ * Using the blueprint on a piece starts an edit. While editing, each use
+ * toggles the tile under the crosshair in a pending 9-bit mask. Using it on
+ * anything else (or switching mode) confirms, rewriting only the tiles that
+ * changed in one {@link BulkBuild}.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceEditor {
+
+    private static final Map<UUID, Session> SESSIONS = new HashMap<>();
+
+    private static class Session {
+        final long pieceId;
+        int pendingMask;
+
+        Session(long pieceId, int pendingMask) {
+            this.pieceId = pieceId;
+            this.pendingMask = pendingMask;
+        }
+    }
+
+    /**
+     * Handles one use of the blueprint in edit mode.
+     * {@code clickedPos} is the block that was hit, or null when using into the air.
+     */
+    public static void use(Player player, Level level, BlockPos clickedPos) {
+        Session session = SESSIONS.get(player.getUUID());
+
+        if (session != null) {
+            BuildPiece piece = PieceIndex.forPiece(level, session.pieceId).get(session.pieceId);
+            int tile = piece == null ? -1 : tileUnderAim(player, piece);
+            if (tile >= 0) {
+                session.pendingMask ^= 1 << tile;
+                showMask(player, session.pendingMask);
+                return;
+            }
+            // Aiming away from the piece confirms the edit
+            confirm(player, level);
+            return;
+        }
+
+        if (clickedPos == null) {
+            return;
+        }
+
+        BuildPiece piece = PieceIndex.forPos(level, clickedPos).pieceAt(clickedPos);
+        if (piece != null) {
+            SESSIONS.put(player.getUUID(), new Session(piece.id(), piece.mask()));
+            showMask(player, piece.mask());
+        }
+    }
+
+    /**
+     * Applies the pending edit of a player, if any.
+     */
+    public static void confirm(Player player, Level level) {
+        Session session = SESSIONS.remove(player.getUUID());
+        if (session == null) {
+            return;
+        }
+
+        PieceIndex index = PieceIndex.forPiece(level, session.pieceId);
+        BuildPiece piece = index.get(session.pieceId);
+        // A piece with every tile edited out would vanish, keep it as it was
+        if (piece == null || (session.pendingMask & piece.tiles()) == 0) {
+            return;
+        }
+
+        int written;
+        try (BulkBuild bulk = BulkBuild.pieces(level)) {
+            written = index.applyMask(piece, session.pendingMask, bulk);
+        }
+
+        if (written > 0) {
+            level.playSound(null, piece.anchor(),
+                piece.state().getSoundType().getPlaceSound(),
+                SoundSource.BLOCKS,
+                1.0f, 1.0f);
+        }
+    }
+
+    public static boolean isEditing(Player player) {
+        return SESSIONS.containsKey(player.getUUID());
+    }
+
+    /**
+     * Finds the tile of a piece the player is looking at, edited out or not.
+     * Returns -1 if the look vector misses the piece.
+     */
+    private static int tileUnderAim(Player player, BuildPiece piece) {
+        Vec3 eye = player.getEyePosition();
+        Vec3 end = eye.add(player.getViewVector(1.0F).scale(BuildRaycast.buildRange(player)));
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        int best = -1;
+        double bestDist = Double.MAX_VALUE;
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            Optional<Vec3> hit = new AABB(piece.tilePos(tile, cursor)).clip(eye, end);
+            if (hit.isPresent()) {
+                double dist = hit.get().distanceToSqr(eye);
+                if (dist < bestDist) {
+                    bestDist = dist;
+                    best = tile;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Action bar shows the 3x3 tile layout, top row first
+    private static void showMask(Player player, int mask) {
+        StringBuilder text = new StringBuilder("§6Edit: §f");
+        for (int row = 2; row >= 0; row--) {
+            for (int column = 0; column < 3; column++) {
+                text.append((mask & (1 << (row * 3 + column))) != 0 ? '■' : '□');
+            }
+            if (row > 0) {
+                text.append(' ');
+            }
+        }
+        player.displayClientMessage(Component.literal(text.toString()), true);
+    }
+
+    @SubscribeEvent
+    public static void onLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        SESSIONS.remove(event.getEntity().getUUID());
+    }
+}
@@ -0,0 +1,85 @@
+package com.noel.fortnitemod.build;
+
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ExplosionEvent;
+
+/**
+ * Explosions damage build pieces as whole pieces.
+ * <p>
+ * Piece blocks have {@link #BLAST_RESISTANCE bedrock-level blast resistance}, so every
+ * vanilla resistance ray stops at the first piece tile it reaches instead of marching
+ * on through the build, and no piece tile ever lands in the explosion's block list.
+ * Before vanilla casts its rays, every piece whose cell is in range takes damage
+ * falling off with distance, and the pieces destroyed are removed together in one
+ * bulk write. Rays then pass through the gaps those pieces leave, while pieces still
+ * standing shelter whatever is behind them.
+ * <p>
+ * Only explosions that would break blocks touch builds, so wind charges and
+ * creepers with mob griefing off leave them alone. Damage is deliberately not
+ * occluded: a piece behind other pieces takes the same damage as the outer wall,
+ * which keeps the pass to one cell scan with no rays.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceExplosions {
+
+    // Same as bedrock: no explosion ray gets past a piece tile
+    public static final float BLAST_RESISTANCE = 3600000.0f;
+
+    // Server thread only
+    private static final BuildPiece[] IN_CELL = new BuildPiece[BuildPiece.SLOT_COUNT];
+
+    @SubscribeEvent
+    public static void onStart(ExplosionEvent.Start event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+
+        Explosion explosion = event.getExplosion();
+        Explosion.BlockInteraction interaction = explosion.getBlockInteraction();
+        if (interaction != Explosion.BlockInteraction.DESTROY
+                && interaction != Explosion.BlockInteraction.DESTROY_WITH_DECAY) {
+            return;
+        }
+
+        Vec3 centre = explosion.center();
+        // Same reach vanilla uses for entity damage
+        double reach = explosion.radius() * 2.0;
+        double reachSq = reach * reach;
+        float maxDamage = Config.EXPLOSION_PIECE_DAMAGE.getAsInt() * explosion.radius() / 4.0f;
+
+        int minX = BuildGrid.toCell(centre.x - reach);
+        int minY = BuildGrid.toCell(centre.y - reach);
+        int minZ = BuildGrid.toCell(centre.z - reach);
+        int maxX = BuildGrid.toCell(centre.x + reach);
+        int maxY = BuildGrid.toCell(centre.y + reach);
+        int maxZ = BuildGrid.toCell(centre.z + reach);
+
+        try (BulkBuild bulk = BulkBuild.pieces(level)) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                    for (int cellY = minY; cellY <= maxY; cellY++) {
+                        double dx = BuildGrid.cellCentre(cellX) - centre.x;
+                        double dy = BuildGrid.cellCentre(cellY) - centre.y;
+                        double dz = BuildGrid.cellCentre(cellZ) - centre.z;
+                        double distSq = dx * dx + dy * dy + dz * dz;
+                        if (distSq > reachSq) {
+                            continue;
+                        }
+
+                        int count = PieceIndex.forCell(level, cellX, cellY, cellZ).inCell(cellX, cellY, cellZ, IN_CELL);
+                        float damage = (float) (maxDamage * (1.0 - Math.sqrt(distSq) / reach));
+                        for (int i = 0; i < count; i++) {
+                            PieceDamage.damage(IN_CELL[i], damage, bulk);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.noel.fortnitemod.build;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.arena.Arena;
+import com.noel.fortnitemod.arena.ArenaManager;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+/**
+ * Every build piece in a level, plus a reverse index from member block to piece.
+ * Both maps are keyed by packed longs, so resolving the piece under any block
+ * is one primitive hash lookup with no boxing.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceIndex {
+
+    public static final long NO_PIECE = Long.MIN_VALUE;
+
+    private static final Map<LevelAccessor, PieceIndex> LEVELS = new IdentityHashMap<>();
+
+    // The pieces the client has been sent, filled by PieceSyncClient. Client thread only
+    private static final PieceIndex CLIENT = new PieceIndex();
+
+    private final Long2ObjectOpenHashMap<BuildPiece> pieces = new Long2ObjectOpenHashMap<>();
+    private final Long2LongOpenHashMap owners = new Long2LongOpenHashMap();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+    public PieceIndex() {
+        owners.defaultReturnValue(NO_PIECE);
+    }
+
+    /**
+     * Returns the piece index for everything in a server level outside of arenas,
+     * creating it on first use.
+     */
+    public static PieceIndex of(Level level) {
+        return LEVELS.computeIfAbsent(level, l -> new PieceIndex());
+    }
+
+    /**
+     * Returns the client's copy of the pieces it has been synced.
+     * Only holds ids, type, facing, material and edit mask; health stays on the server.
+     */
+    public static PieceIndex client() {
+        return CLIENT;
+    }
+
+    /**
+     * Returns the index that owns pieces in a cell: the arena's own store
+     * if the cell is inside an arena, otherwise the level's.
+     * On the client this is always the synced copy, so shared code such as
+     * the build raycast never touches the server's maps from the client thread.
+     */
+    public static PieceIndex forCell(Level level, int cellX, int cellY, int cellZ) {
+        if (level.isClientSide()) {
+            return CLIENT;
+        }
+        Arena arena = ArenaManager.arenaAt(level, cellX, cellY, cellZ);
+        return arena != null ? arena.pieces() : of(level);
+    }
+
+    public static PieceIndex forPos(Level level, BlockPos pos) {
+        return forCell(level, BuildGrid.toCell(pos.getX()), BuildGrid.toCell(pos.getY()), BuildGrid.toCell(pos.getZ()));
+    }
+
+    public static PieceIndex forPiece(Level level, long id) {
+        return forCell(level, BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id));
+    }
+
+    /**
+     * Whether any piece takes up a slot of a cell. At most one lookup per slot.
+     */
+    public static boolean anyInCell(Level level, int cellX, int cellY, int cellZ) {
+        PieceIndex index = forCell(level, cellX, cellY, cellZ);
+        if (index.size() == 0) {
+            return false;
+        }
+        for (int slot = 0; slot < BuildPiece.SLOT_COUNT; slot++) {
+            if (index.pieces.containsKey(BuildPiece.idInSlot(cellX, cellY, cellZ, slot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the pieces taking up the slots of one cell into {@code out},
+     * which must hold {@link BuildPiece#SLOT_COUNT} entries. Returns how many were found.
+     * The cell is read up front, so callers may destroy the pieces while going through them.
+     */
+    public int inCell(int cellX, int cellY, int cellZ, BuildPiece[] out) {
+        if (pieces.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        for (int slot = 0; slot < BuildPiece.SLOT_COUNT; slot++) {
+            BuildPiece piece = pieces.get(BuildPiece.idInSlot(cellX, cellY, cellZ, slot));
+            if (piece != null) {
+                out[count++] = piece;
+            }
+        }
+        return count;
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            CLIENT.clear();
+        } else {
+            LEVELS.remove(event.getLevel());
+        }
+    }
+
+    public BuildPiece get(long id) {
+        return pieces.get(id);
+    }
+
+    public int size() {
+        return pieces.size();
+    }
+
+    /**
+     * Ids of every piece in the index. Do not modify while iterating.
+     */
+    public LongSet ids() {
+        return pieces.keySet();
+    }
+
+    /**
+     * Empties the index but keeps its tables allocated, so a pooled index
+     * can be refilled without growing and rehashing again.
+     */
+    public void clear() {
+        pieces.clear();
+        owners.clear();
+    }
+
+    /**
+     * Returns the piece owning the block at {@code pos}, or null.
+     */
+    public BuildPiece pieceAt(BlockPos pos) {
+        long id = owners.get(pos.asLong());
+        return id == NO_PIECE ? null : pieces.get(id);
+    }
+
+    /**
+     * Adds a piece and maps every solid tile back to it.
+     * A piece already in the same slot is merged into, keeping both sets of tiles
+     * and filling back in any edited-out tile the new piece was placed over.
+     */
+    public BuildPiece add(BuildPiece piece) {
+        BuildPiece existing = pieces.get(piece.id());
+        if (existing != null) {
+            existing.setTiles(existing.tiles() | piece.tiles());
+            existing.setMask(existing.mask() | piece.solidTiles());
+            piece = existing;
+        } else {
+            pieces.put(piece.id(), piece);
+        }
+
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            if (piece.hasTile(tile)) {
+                owners.put(piece.tilePos(tile, cursor).asLong(), piece.id());
+            }
+        }
+        return piece;
+    }
+
+    /**
+     * Drops a piece from the index. The world is left untouched.
+     */
+    public BuildPiece remove(long id) {
+        BuildPiece piece = pieces.remove(id);
+        if (piece != null) {
+            for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+                if (piece.hasTile(tile)) {
+                    owners.remove(piece.tilePos(tile, cursor).asLong(), id);
+                }
+            }
+        }
+        return piece;
+    }
+
+    /**
+     * Removes a piece from the index and clears its blocks through the bulk context.
+     * Tiles that no longer hold the piece's block are left alone.
+     */
+    public BuildPiece destroy(long id, BulkBuild bulk) {
+        BuildPiece piece = remove(id);
+        if (piece != null) {
+            PieceSync.removed(bulk.level(), piece);
+            PieceStorage.removed(bulk.level(), piece);
+            for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+                if (piece.hasTile(tile) && holdsPiece(bulk, piece, piece.tilePos(tile, cursor))) {
+                    bulk.removeBlock(cursor);
+                }
+            }
+        }
+        return piece;
+    }
+
+    /**
+     * Reshapes a piece to a new edit mask, rewriting only the tiles that changed.
+     * Returns the number of blocks written.
+     */
+    public int applyMask(BuildPiece piece, int newMask, BulkBuild bulk) {
+        int before = piece.solidTiles();
+        piece.setMask(newMask);
+        int after = piece.solidTiles();
+        int changed = before ^ after;
+        if (changed == 0) {
+            return 0;
+        }
+        PieceSync.changed(bulk.level(), piece);
+        PieceStorage.changed(bulk.level(), piece);
+
+        BlockState state = piece.state();
+        int written = 0;
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            int bit = 1 << tile;
+            if ((changed & bit) == 0) {
+                continue;
+            }
+
+            long pos = piece.tilePos(tile, cursor).asLong();
+            if ((after & bit) == 0) {
+                owners.remove(pos, piece.id());
+                if (holdsPiece(bulk, piece, cursor) && bulk.removeBlock(cursor)) written++;
+            } else if (bulk.level().getBlockState(cursor).canBeReplaced()) {
+                owners.put(pos, piece.id());
+                if (bulk.setBlock(cursor, state)) written++;
+            } else {
+                // Something else moved into the gap, so the tile stays open
+                piece.setMask(piece.mask() & ~bit);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Whether a tile still holds the piece's block. The index can go stale when
+     * something else (commands, pistons, fluids) replaces a tile, and that block
+     * must not be cleared along with the piece.
+     */
+    private static boolean holdsPiece(BulkBuild bulk, BuildPiece piece, BlockPos pos) {
+        return bulk.level().getBlockState(pos).is(piece.state().getBlock());
+    }
+}
@@ -0,0 +1,71 @@
+package com.noel.fortnitemod.build;
+
+import java.util.function.Supplier;
+
+import com.noel.fortnitemod.BlockInit;
+import net.minecraft.world.level.block.Block;
+
+/**
+ * What a piece is built from. Pieces spawn at a fraction of their health
+ * and grow to full strength over the material's build time.
+ * Sturdier materials take longer to build.
+ */
+public enum PieceMaterial {
+    WOOD("Wood", 150, 0.1f, 20, BlockInit.WOOD_WALL, BlockInit.WOOD_FLOOR, BlockInit.WOOD_RAMP),
+    BRICK("Brick", 300, 0.1f, 40, BlockInit.BRICK_WALL, BlockInit.BRICK_FLOOR, BlockInit.BRICK_RAMP),
+    METAL("Metal", 500, 0.1f, 60, BlockInit.METAL_WALL, BlockInit.METAL_FLOOR, BlockInit.METAL_RAMP);
+
+    private final String displayName;
+    private final float maxHealth;
+    private final float startHealth;
+    private final int buildTicks;
+    private final Supplier<? extends Block> wall;
+    private final Supplier<? extends Block> floor;
+    private final Supplier<? extends Block> ramp;
+
+    PieceMaterial(String displayName, float maxHealth, float startFraction, int buildTicks,
+                  Supplier<? extends Block> wall, Supplier<? extends Block> floor, Supplier<? extends Block> ramp) {
+        this.displayName = displayName;
+        this.maxHealth = maxHealth;
+        this.startHealth = maxHealth * startFraction;
+        this.buildTicks = buildTicks;
+        this.wall = wall;
+        this.floor = floor;
+        this.ramp = ramp;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+
+    public float maxHealth() {
+        return maxHealth;
+    }
+
+    public float startHealth() {
+        return startHealth;
+    }
+
+    public int buildTicks() {
+        return buildTicks;
+    }
+
+    /**
+     * The block a piece of this material is made of.
+     */
+    public Block block(PieceType type) {
+        return switch (type) {
+            case WALL -> wall.get();
+            case FLOOR -> floor.get();
+            case RAMP -> ramp.get();
+        };
+    }
+
+    public PieceMaterial next() {
+        return values()[(ordinal() + 1) % values().length];
+    }
+
+    public static PieceMaterial fromIndex(int index) {
+        return values()[Math.abs(index) % values().length];
+    }
+}
@@ -0,0 +1,129 @@
+package com.noel.fortnitemod.build;
+
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.arena.Arena;
+import com.noel.fortnitemod.arena.ArenaManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Batched placement path for build pieces.
+ * Collects any number of pieces for one interaction into a single
+ * {@link BulkBuild}, and plays a single place sound at the end,
+ * instead of doing the bookkeeping per piece.
+ */
+public class PiecePlacer {
+
+    private final Level level;
+    private final PieceMaterial material;
+    private final BulkBuild bulk;
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+    private BlockPos firstPos;
+    private BlockState firstState;
+    private int piecesPlaced;
+
+    public PiecePlacer(Level level) {
+        this(level, PieceMaterial.WOOD);
+    }
+
+    /**
+     * A batch building in {@code material}, unless a piece says otherwise.
+     */
+    public PiecePlacer(Level level, PieceMaterial material) {
+        this.level = level;
+        this.material = material;
+        this.bulk = BulkBuild.pieces(level);
+    }
+
+    /**
+     * Places every free tile of a piece in a grid cell and records it in the piece index
+     * of whichever arena holds the cell.
+     * Returns true if at least one block was placed.
+     */
+    public boolean placeInCell(PieceType type, int cellX, int cellY, int cellZ, Direction facing) {
+        return placeInCell(type, cellX, cellY, cellZ, facing, BuildPiece.ALL_TILES);
+    }
+
+    /**
+     * Places an already edited piece: every free tile is claimed,
+     * but only the tiles in {@code mask} are built.
+     * Returns true if the piece claimed at least one tile.
+     */
+    public boolean placeInCell(PieceType type, int cellX, int cellY, int cellZ, Direction facing, int mask) {
+        return placeInCell(type, material, cellX, cellY, cellZ, facing, mask);
+    }
+
+    /**
+     * Places an already edited piece in a given material.
+     * Returns true if the piece claimed at least one tile.
+     */
+    public boolean placeInCell(PieceType type, PieceMaterial material, int cellX, int cellY, int cellZ,
+                               Direction facing, int mask) {
+        Arena arena = ArenaManager.arenaAt(level, cellX, cellY, cellZ);
+        if (arena != null && !arena.canBuild(level.getGameTime(), Config.ARENA_BUILD_PIECES_PER_TICK.getAsInt())) {
+            return false;
+        }
+        PieceIndex index = arena != null ? arena.pieces() : PieceIndex.of(level);
+
+        BlockPos anchor = BuildGrid.anchor(type, cellX, cellY, cellZ, facing);
+        BlockState state = type.stateFor(material, facing);
+        int tiles = 0;
+
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            type.tilePos(anchor, facing, tile, cursor);
+
+            // Check if valid replacement
+            if (level.isInWorldBounds(cursor) && level.getBlockState(cursor).canBeReplaced()) {
+                tiles |= 1 << tile;
+                if ((mask & (1 << tile)) != 0) {
+                    bulk.setBlock(cursor, state);
+                }
+            }
+        }
+
+        if (tiles == 0) {
+            return false;
+        }
+
+        BuildPiece piece = new BuildPiece(type, material, cellX, cellY, cellZ, facing, tiles);
+        piece.setMask(mask);
+        BuildPiece added = index.add(piece);
+        if (arena != null) {
+            // Charged only now, so placements that claimed nothing cost nothing
+            arena.chargeBuild(level.getGameTime());
+        }
+        if (added == piece && level instanceof ServerLevel serverLevel) {
+            // New piece rather than a merge: grow it to full strength on the level's timing wheel
+            TimingWheel.of(serverLevel).schedule(piece.id(), piece.startBuild(level.getGameTime()));
+        }
+        PieceSync.changed(level, added);
+        PieceStorage.changed(level, added);
+        if (firstPos == null) {
+            firstPos = anchor;
+            firstState = state;
+        }
+        piecesPlaced++;
+        return true;
+    }
+
+    /**
+     * Finishes the batch, running the deferred block updates once and
+     * playing one place sound for everything placed.
+     * Returns the number of pieces placed.
+     */
+    public int finish() {
+        bulk.close();
+        if (firstPos != null) {
+            level.playSound(null, firstPos,
+                firstState.getSoundType().getPlaceSound(),
+                SoundSource.BLOCKS,
+                1.0f, 1.0f);
+        }
+        return piecesPlaced;
+    }
+}
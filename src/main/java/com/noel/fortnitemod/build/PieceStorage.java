@@ -0,0 +1,98 @@
+package com.noel.fortnitemod.build;
+
+import com.noel.fortnitemod.AttachmentInit;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.arena.ArenaManager;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+
+/**
+ * Keeps pieces saved with the chunk their anchor is in.
+ * <p>
+ * A chunk's pieces join the piece index when the chunk loads and leave it when
+ * the chunk unloads, so only loaded pieces are ever in memory. A change marks
+ * just its own chunk unsaved, so save cost follows the chunks that changed.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceStorage {
+
+    /**
+     * Records a placed, edited or damaged piece in its chunk.
+     */
+    public static void changed(Level level, BuildPiece piece) {
+        if (!(level instanceof ServerLevel)) {
+            return;
+        }
+        LevelChunk chunk = chunkOf(level, piece);
+        if (chunk == null) {
+            return;
+        }
+        chunk.getData(AttachmentInit.CHUNK_PIECES).pieces().put(piece.id(), piece);
+        chunk.markUnsaved();
+    }
+
+    /**
+     * Drops a removed piece from its chunk.
+     */
+    public static void removed(Level level, BuildPiece piece) {
+        if (!(level instanceof ServerLevel)) {
+            return;
+        }
+        LevelChunk chunk = chunkOf(level, piece);
+        if (chunk == null) {
+            return;
+        }
+        ChunkPieces pieces = chunk.getExistingDataOrNull(AttachmentInit.CHUNK_PIECES);
+        if (pieces == null || pieces.pieces().remove(piece.id()) == null) {
+            return;
+        }
+        if (pieces.isEmpty()) {
+            chunk.removeData(AttachmentInit.CHUNK_PIECES);
+        }
+        chunk.markUnsaved();
+    }
+
+    /**
+     * The loaded chunk holding a piece, or null. Never loads or generates a chunk:
+     * a piece whose chunk is unloaded is not in the index, so there is nothing to write.
+     */
+    private static LevelChunk chunkOf(Level level, BuildPiece piece) {
+        return level.getChunkSource().getChunkNow(SectionPos.blockToSectionCoord(piece.anchor().getX()),
+            SectionPos.blockToSectionCoord(piece.anchor().getZ()));
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getChunk() instanceof LevelChunk chunk)) {
+            return;
+        }
+        ChunkPieces pieces = chunk.getExistingDataOrNull(AttachmentInit.CHUNK_PIECES);
+        if (pieces == null) {
+            return;
+        }
+        for (BuildPiece piece : pieces.pieces().values()) {
+            PieceIndex.forPiece(level, piece.id()).add(piece);
+        }
+        ArenaManager.piecesLoaded(level, chunk.getPos().toLong(), pieces.pieces().keySet());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getChunk() instanceof LevelChunk chunk)) {
+            return;
+        }
+        ChunkPieces pieces = chunk.getExistingDataOrNull(AttachmentInit.CHUNK_PIECES);
+        if (pieces == null) {
+            return;
+        }
+        for (long id : pieces.pieces().keySet()) {
+            PieceIndex.forPiece(level, id).remove(id);
+        }
+        ArenaManager.piecesUnloaded(level, chunk.getPos().toLong(), pieces.pieces().keySet());
+    }
+}
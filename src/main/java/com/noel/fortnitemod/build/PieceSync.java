@@ -0,0 +1,147 @@
+package com.noel.fortnitemod.build;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+import com.noel.fortnitemod.AttachmentInit;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.network.PieceSyncPayload;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkWatchEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Sends piece changes to clients as piece records instead of block updates.
+ * <p>
+ * Piece blocks are written without notifying clients. Every piece changed
+ * during a tick is collected here, under each chunk its cell overlaps, and at
+ * the end of the tick each chunk's changes go out as one {@link PieceSyncPayload}
+ * to the players tracking that chunk. A cell can straddle a chunk border, so
+ * players tracking either side see the piece. Clients expand the records into blocks.
+ * <p>
+ * This is the only way piece changes reach clients: piece writes never send block
+ * updates. The chunk packet carries the blocks themselves, but not health or the
+ * client piece index, so when a player starts tracking a chunk every piece anchored
+ * in it is sent again as one full record.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PieceSync {
+
+    private static final Map<LevelAccessor, PieceSync> LEVELS = new IdentityHashMap<>();
+
+    // Chunk -> piece id -> latest change to that piece
+    private final Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry>> pending = new Long2ObjectOpenHashMap<>();
+
+    private record Entry(BuildPiece piece, boolean removed) {
+    }
+
+    /**
+     * Queues a placed, edited or damaged piece for the end of tick sync.
+     */
+    public static void changed(Level level, BuildPiece piece) {
+        queue(level, piece, false);
+    }
+
+    /**
+     * Queues a removed piece, so clients clear its blocks.
+     */
+    public static void removed(Level level, BuildPiece piece) {
+        queue(level, piece, true);
+    }
+
+    private static void queue(Level level, BuildPiece piece, boolean removed) {
+        if (!(level instanceof ServerLevel)) {
+            return;
+        }
+        PieceSync sync = LEVELS.computeIfAbsent(level, l -> new PieceSync());
+        Entry entry = new Entry(piece, removed);
+
+        // Every tile lies inside the cell, so its corners give every chunk the piece touches
+        int minX = piece.cellX() * BuildGrid.CELL_SIZE;
+        int minZ = piece.cellZ() * BuildGrid.CELL_SIZE;
+        int maxChunkX = SectionPos.blockToSectionCoord(minX + BuildGrid.CELL_SIZE - 1);
+        int maxChunkZ = SectionPos.blockToSectionCoord(minZ + BuildGrid.CELL_SIZE - 1);
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= maxChunkZ; chunkZ++) {
+                sync.pending.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), c -> new Long2ObjectOpenHashMap<>())
+                    .put(piece.id(), entry);
+            }
+        }
+    }
+
+    private void flush(ServerLevel level) {
+        long gameTime = level.getGameTime();
+        for (Long2ObjectMap.Entry<Long2ObjectOpenHashMap<Entry>> chunk : pending.long2ObjectEntrySet()) {
+            Long2ObjectOpenHashMap<Entry> entries = chunk.getValue();
+
+            // Sorted, so the id deltas on the wire stay small
+            long[] ids = entries.keySet().toLongArray();
+            Arrays.sort(ids);
+            PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(chunk.getLongKey()),
+                payload(ids, id -> entries.get(id).piece(), id -> entries.get(id).removed(), gameTime));
+        }
+        pending.clear();
+    }
+
+    private static PieceSyncPayload payload(long[] ids, LongFunction<BuildPiece> pieces,
+                                            LongPredicate removed, long gameTime) {
+        byte[] flags = new byte[ids.length];
+        short[] masks = new short[ids.length];
+        int[] health = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            BuildPiece piece = pieces.apply(ids[i]);
+            boolean gone = removed.test(ids[i]);
+            flags[i] = PieceSyncPayload.flags(piece, gone);
+            if (!gone) {
+                masks[i] = (short) piece.solidTiles();
+                health[i] = Mth.ceil(Math.max(piece.health(gameTime), 0));
+            }
+        }
+        return new PieceSyncPayload(ids, flags, masks, health);
+    }
+
+    /**
+     * Sends every piece anchored in a chunk to a player who just received it.
+     * A piece that straddles into the chunk from a neighbour goes out with that neighbour.
+     */
+    @SubscribeEvent
+    public static void onChunkSent(ChunkWatchEvent.Sent event) {
+        ChunkPieces pieces = event.getChunk().getExistingDataOrNull(AttachmentInit.CHUNK_PIECES);
+        if (pieces == null || pieces.isEmpty()) {
+            return;
+        }
+        long[] ids = pieces.pieces().keySet().toLongArray();
+        Arrays.sort(ids);
+        PacketDistributor.sendToPlayer(event.getPlayer(),
+            payload(ids, pieces.pieces()::get, id -> false, event.getLevel().getGameTime()));
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        // After player packets, so pieces placed this tick go out this tick
+        for (Map.Entry<LevelAccessor, PieceSync> entry : LEVELS.entrySet()) {
+            if (!entry.getValue().pending.isEmpty() && entry.getKey() instanceof ServerLevel level) {
+                entry.getValue().flush(level);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        LEVELS.remove(event.getLevel());
+    }
+}
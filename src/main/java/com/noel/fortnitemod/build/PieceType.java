@@ -0,0 +1,54 @@
+package com.noel.fortnitemod.build;
+
+import com.noel.fortnitemod.block.RampPieceBlock;
+import com.noel.fortnitemod.block.WallPieceBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * The shapes a blueprint can build. Every piece is made of 9 tiles,
+ * laid out from an anchor position (see {@link BuildGrid#anchor}).
+ */
+public enum PieceType {
+    WALL,
+    RAMP,
+    FLOOR;
+
+    public static final int TILE_COUNT = 9;
+
+    /**
+     * Writes the block position of one tile into {@code out}.
+     * Tiles are numbered row by row: tile = row * 3 + column.
+     */
+    public BlockPos.MutableBlockPos tilePos(BlockPos anchor, Direction facing, int tile, BlockPos.MutableBlockPos out) {
+        int row = tile / 3;
+        int column = tile % 3 - 1;
+        Direction widthDir = facing.getClockWise();
+
+        out.set(anchor);
+        switch (this) {
+            // 3 wide (centered) and 3 high
+            case WALL -> out.move(widthDir, column).move(Direction.UP, row);
+            // 3x3 horizontal, centered on the anchor
+            case FLOOR -> out.move(column, 0, row - 1);
+            // 3 wide, 3 deep, each row going forward is 1 block higher
+            case RAMP -> out.move(facing, row).move(widthDir, column).move(Direction.UP, row);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the block state this piece places in a material, oriented for the given facing.
+     */
+    public BlockState stateFor(PieceMaterial material, Direction facing) {
+        BlockState state = material.block(this).defaultBlockState();
+        return switch (this) {
+            // Wall faces back towards the player
+            case WALL -> state.setValue(WallPieceBlock.FACING, facing.getOpposite());
+            case FLOOR -> state;
+            // Ramp rises in the direction the player is facing
+            case RAMP -> state.setValue(RampPieceBlock.FACING, facing);
+        };
+    }
+}
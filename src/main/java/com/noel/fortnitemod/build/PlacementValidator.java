@@ -0,0 +1,189 @@
+package com.noel.fortnitemod.build;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+/**
+ * Server-side check that a player can actually reach and see the cell a piece
+ * is going into, since the client picks the hit position and snapping moves it.
+ * <p>
+ * Reach is measured to the nearest point of the snapped cell. Line of sight is
+ * a coarse walk over build cells instead of a full block-by-block clip. Terrain
+ * is sampled at one block per cell, while the pieces in a cell are clipped
+ * against their real thin shapes, so the open side of a wall or floor never blocks. Results are cached per player
+ * for the current tick, so spamming placements at one spot traces once.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class PlacementValidator implements BuildGrid.CellVisitor {
+
+    // Same leeway vanilla gives block interactions
+    private static final double REACH_SLACK = 1.0;
+
+    // Distinct target cells remembered per player per tick
+    private static final int CACHE_SIZE = 8;
+
+    private static final int MAX_CELLS = 16;
+
+    private static final Map<UUID, Cache> CACHES = new HashMap<>();
+
+    // Server thread only
+    private static final PlacementValidator TRACER = new PlacementValidator();
+
+    private static class Cache {
+        long tick = Long.MIN_VALUE;
+        final long[] cells = new long[CACHE_SIZE];
+        final boolean[] results = new boolean[CACHE_SIZE];
+        int size;
+    }
+
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final BuildPiece[] inCell = new BuildPiece[BuildPiece.SLOT_COUNT];
+
+    private Level level;
+    private Vec3 from;
+    private Vec3 to;
+    private double fromX, fromY, fromZ;
+    private double dirX, dirY, dirZ;
+    private double lengthSq;
+    private long startCell;
+    private long targetCell;
+    private boolean blocked;
+
+    /**
+     * Returns true if the player is close enough to the cell and nothing solid stands in between.
+     */
+    public static boolean canReach(Player player, Level level, int cellX, int cellY, int cellZ) {
+        long cell = BuildGrid.pack(cellX, cellY, cellZ);
+        Cache cache = CACHES.computeIfAbsent(player.getUUID(), uuid -> new Cache());
+        long now = level.getGameTime();
+        if (cache.tick != now) {
+            cache.tick = now;
+            cache.size = 0;
+        }
+        for (int i = 0; i < cache.size; i++) {
+            if (cache.cells[i] == cell) {
+                return cache.results[i];
+            }
+        }
+
+        boolean result = TRACER.check(player, level, cellX, cellY, cellZ, true);
+        if (cache.size < CACHE_SIZE) {
+            cache.cells[cache.size] = cell;
+            cache.results[cache.size] = result;
+            cache.size++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if nothing solid stands between the player's eyes and the cell,
+     * however far away it is. For stamps, whose reach is set by the prefab's own layout.
+     * Not cached, callers check each cell once.
+     */
+    public static boolean canSee(Player player, Level level, int cellX, int cellY, int cellZ) {
+        return TRACER.check(player, level, cellX, cellY, cellZ, false);
+    }
+
+    private boolean check(Player player, Level level, int cellX, int cellY, int cellZ, boolean checkReach) {
+        Vec3 eye = player.getEyePosition();
+
+        // Nearest point of the cell to the eye
+        int size = BuildGrid.CELL_SIZE;
+        double toX = Mth.clamp(eye.x, cellX * size, cellX * size + size);
+        double toY = Mth.clamp(eye.y, cellY * size, cellY * size + size);
+        double toZ = Mth.clamp(eye.z, cellZ * size, cellZ * size + size);
+
+        this.fromX = eye.x;
+        this.fromY = eye.y;
+        this.fromZ = eye.z;
+        this.dirX = toX - eye.x;
+        this.dirY = toY - eye.y;
+        this.dirZ = toZ - eye.z;
+        this.lengthSq = dirX * dirX + dirY * dirY + dirZ * dirZ;
+
+        double reach = BuildRaycast.buildRange(player) + REACH_SLACK;
+        if (checkReach && lengthSq > reach * reach) {
+            return false;
+        }
+
+        this.level = level;
+        this.from = eye;
+        this.to = new Vec3(toX, toY, toZ);
+        this.startCell = BuildGrid.pack(BuildGrid.toCell(eye.x), BuildGrid.toCell(eye.y), BuildGrid.toCell(eye.z));
+        this.targetCell = BuildGrid.pack(cellX, cellY, cellZ);
+        this.blocked = false;
+        BuildGrid.traverse(eye.x, eye.y, eye.z, toX, toY, toZ, MAX_CELLS, this);
+        this.level = null;
+        this.from = null;
+        this.to = null;
+        return !blocked;
+    }
+
+    @Override
+    public boolean visit(int cellX, int cellY, int cellZ) {
+        long cell = BuildGrid.pack(cellX, cellY, cellZ);
+        if (cell == targetCell) {
+            return false;
+        }
+        if (cell == startCell) {
+            return true;
+        }
+
+        int count = PieceIndex.forCell(level, cellX, cellY, cellZ).inCell(cellX, cellY, cellZ, inCell);
+        for (int i = 0; i < count; i++) {
+            if (clips(inCell[i])) {
+                blocked = true;
+                return false;
+            }
+        }
+
+        // Sample the point of the segment closest to the middle of this cell
+        double t = 0;
+        if (lengthSq > 0) {
+            double dx = BuildGrid.cellCentre(cellX) - fromX;
+            double dy = BuildGrid.cellCentre(cellY) - fromY;
+            double dz = BuildGrid.cellCentre(cellZ) - fromZ;
+            t = Mth.clamp((dx * dirX + dy * dirY + dz * dirZ) / lengthSq, 0, 1);
+        }
+        cursor.set(Mth.floor(fromX + dirX * t), Mth.floor(fromY + dirY * t), Mth.floor(fromZ + dirZ * t));
+
+        BlockState state = level.getBlockState(cursor);
+        if (state.isAir()) {
+            return true;
+        }
+        // Piece tiles are never full blocks, so only terrain can block here
+        if (state.isCollisionShapeFullBlock(level, cursor)) {
+            blocked = true;
+            return false;
+        }
+        return true;
+    }
+
+    // Whether the segment passes through the shape of any solid tile of a piece
+    private boolean clips(BuildPiece piece) {
+        BlockState state = piece.state();
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            if (piece.hasTile(tile) && state.getShape(level, piece.tilePos(tile, cursor)).clip(from, to, cursor) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SubscribeEvent
+    public static void onLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        CACHES.remove(event.getEntity().getUUID());
+    }
+}
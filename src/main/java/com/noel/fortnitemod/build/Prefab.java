@@ -0,0 +1,233 @@
+package com.noel.fortnitemod.build;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.arena.Arena;
+import com.noel.fortnitemod.arena.ArenaManager;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+
+/**
+ * A recorded multi-piece layout (1x1 box, ramp-wall, tunnel...) that can be
+ * stamped back down as a single operation.
+ * <p>
+ * Each piece is packed into one long: type, material, rotation, cell offset and edit mask.
+ * Offsets and rotations are stored relative to the recording player's facing,
+ * so a prefab is stamped turned to face whoever places it.
+ */
+public class Prefab {
+
+    public static final Codec<Prefab> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+        Codec.STRING.fieldOf("name").forGetter(Prefab::name),
+        Codec.LONG_STREAM.fieldOf("entries").forGetter(prefab -> LongStream.of(prefab.entries))
+    ).apply(instance, (name, entries) -> new Prefab(name, entries.toArray())));
+
+    /**
+     * Why a prefab can or cannot be stamped somewhere.
+     */
+    public enum Fit {
+        FITS,
+        OUTSIDE_BUILD_HEIGHT,
+        OUT_OF_SIGHT,
+        OVER_BUDGET
+    }
+
+    // Entry layout: material (2) | mask (9) | dz (8) | dy (8) | dx (8) | rotation (2) | type (2)
+    // Offsets are signed bytes, far more than any capture radius needs
+    private static final int TYPE_SHIFT = 0;
+    private static final int ROTATION_SHIFT = 2;
+    private static final int DX_SHIFT = 4;
+    private static final int DY_SHIFT = 12;
+    private static final int DZ_SHIFT = 20;
+    private static final int MASK_SHIFT = 28;
+    private static final int MATERIAL_SHIFT = 37;
+
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final PieceMaterial[] MATERIALS = PieceMaterial.values();
+
+    // Wall facings only need one per axis, walls on the same axis share a slot
+    private static final Direction[] WALL_FACINGS = {Direction.NORTH, Direction.EAST};
+
+    private final String name;
+    private final long[] entries;
+
+    public Prefab(String name, long[] entries) {
+        this.name = name;
+        this.entries = entries;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public long[] entries() {
+        return entries;
+    }
+
+    /**
+     * Records every piece within {@code radius} cells of an origin cell.
+     * Returns null if the area holds more than {@code maxPieces} pieces.
+     */
+    public static Prefab capture(String name, Level level, int originX, int originY, int originZ,
+                                 Direction facing, int radius, int maxPieces) {
+        // Rotate the layout so the recording player faces north
+        int turns = (4 - quarterTurns(facing)) % 4;
+        LongArrayList entries = new LongArrayList();
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    int x = originX + dx;
+                    int y = originY + dy;
+                    int z = originZ + dz;
+                    PieceIndex index = PieceIndex.forCell(level, x, y, z);
+
+                    for (Direction wallFacing : WALL_FACINGS) {
+                        addEntry(entries, index.get(BuildPiece.id(PieceType.WALL, x, y, z, wallFacing)), dx, dy, dz, turns);
+                    }
+                    addEntry(entries, index.get(BuildPiece.id(PieceType.FLOOR, x, y, z, Direction.NORTH)), dx, dy, dz, turns);
+                    for (Direction rampFacing : Direction.Plane.HORIZONTAL) {
+                        addEntry(entries, index.get(BuildPiece.id(PieceType.RAMP, x, y, z, rampFacing)), dx, dy, dz, turns);
+                    }
+
+                    if (entries.size() > maxPieces) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return new Prefab(name, entries.toLongArray());
+    }
+
+    private static void addEntry(LongArrayList entries, BuildPiece piece, int dx, int dy, int dz, int turns) {
+        if (piece == null) {
+            return;
+        }
+        int rotation = (quarterTurns(piece.facing()) + turns) % 4;
+        int rx = rotateX(dx, dz, turns);
+        int rz = rotateZ(dx, dz, turns);
+        entries.add(pack(piece.type(), piece.material(), rotation, rx, dy, rz, piece.mask()));
+    }
+
+    /**
+     * Checks the whole stamp before anything is placed, so a prefab is never left half built.
+     * Every piece must land inside the build height, in a cell the player can see
+     * (see {@link PlacementValidator#canSee}), and every arena the stamp reaches
+     * must have room in this tick's build budget for all of the pieces landing in it.
+     */
+    public Fit canStamp(Player player, Level level, int originX, int originY, int originZ, Direction facing) {
+        int turns = quarterTurns(facing);
+        LongOpenHashSet seen = new LongOpenHashSet();
+        Map<Arena, Integer> perArena = new IdentityHashMap<>();
+
+        for (long entry : entries) {
+            int dx = offset(entry, DX_SHIFT);
+            int dz = offset(entry, DZ_SHIFT);
+            int cellX = originX + rotateX(dx, dz, turns);
+            int cellY = originY + offset(entry, DY_SHIFT);
+            int cellZ = originZ + rotateZ(dx, dz, turns);
+
+            int blockY = cellY * BuildGrid.CELL_SIZE;
+            if (level.isOutsideBuildHeight(blockY) || level.isOutsideBuildHeight(blockY + BuildGrid.CELL_SIZE - 1)) {
+                return Fit.OUTSIDE_BUILD_HEIGHT;
+            }
+            // Cells holding several pieces are traced once
+            if (seen.add(BuildGrid.pack(cellX, cellY, cellZ)) && !PlacementValidator.canSee(player, level, cellX, cellY, cellZ)) {
+                return Fit.OUT_OF_SIGHT;
+            }
+            Arena arena = ArenaManager.arenaAt(level, cellX, cellY, cellZ);
+            if (arena != null) {
+                perArena.merge(arena, 1, Integer::sum);
+            }
+        }
+
+        int budget = Config.ARENA_BUILD_PIECES_PER_TICK.getAsInt();
+        for (Map.Entry<Arena, Integer> arena : perArena.entrySet()) {
+            if (arena.getValue() > arena.getKey().remainingBuilds(level.getGameTime(), budget)) {
+                return Fit.OVER_BUDGET;
+            }
+        }
+        return Fit.FITS;
+    }
+
+    /**
+     * Adds every piece of the prefab to a placement batch, turned to {@code facing}.
+     * Returns the number of pieces placed.
+     */
+    public int stamp(PiecePlacer placer, int originX, int originY, int originZ, Direction facing) {
+        int turns = quarterTurns(facing);
+        int placed = 0;
+        for (long entry : entries) {
+            int dx = offset(entry, DX_SHIFT);
+            int dy = offset(entry, DY_SHIFT);
+            int dz = offset(entry, DZ_SHIFT);
+            PieceType type = TYPES[(int) (entry >>> TYPE_SHIFT) & 3];
+            int rotation = ((int) (entry >>> ROTATION_SHIFT) & 3) + turns;
+            int mask = (int) (entry >>> MASK_SHIFT) & BuildPiece.ALL_TILES;
+            PieceMaterial material = MATERIALS[(int) (entry >>> MATERIAL_SHIFT) & 3];
+
+            if (placer.placeInCell(type, material,
+                    originX + rotateX(dx, dz, turns),
+                    originY + dy,
+                    originZ + rotateZ(dx, dz, turns),
+                    fromQuarterTurns(rotation),
+                    mask)) {
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    private static long pack(PieceType type, PieceMaterial material, int rotation, int dx, int dy, int dz, int mask) {
+        return ((long) type.ordinal() << TYPE_SHIFT)
+                | ((long) rotation << ROTATION_SHIFT)
+                | ((long) (dx & 0xFF) << DX_SHIFT)
+                | ((long) (dy & 0xFF) << DY_SHIFT)
+                | ((long) (dz & 0xFF) << DZ_SHIFT)
+                | ((long) mask << MASK_SHIFT)
+                | ((long) material.ordinal() << MATERIAL_SHIFT);
+    }
+
+    private static int offset(long entry, int shift) {
+        return (byte) (entry >>> shift);
+    }
+
+    // Quarter turns clockwise from north, seen from above
+    private static int quarterTurns(Direction facing) {
+        return (facing.get2DDataValue() + 2) % 4;
+    }
+
+    private static Direction fromQuarterTurns(int turns) {
+        return Direction.from2DDataValue((turns + 2) % 4);
+    }
+
+    private static int rotateX(int dx, int dz, int turns) {
+        return switch (turns & 3) {
+            case 1 -> -dz;
+            case 2 -> -dx;
+            case 3 -> dz;
+            default -> dx;
+        };
+    }
+
+    private static int rotateZ(int dx, int dz, int turns) {
+        return switch (turns & 3) {
+            case 1 -> dx;
+            case 2 -> -dz;
+            case 3 -> -dx;
+            default -> dz;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.noel.fortnitemod.build;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mojang.serialization.MapCodec;
+import com.noel.fortnitemod.AttachmentInit;
+import com.noel.fortnitemod.Config;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * The prefabs one player has recorded, attached to the player so they are
+ * saved with the player's data and kept across logouts, restarts and deaths.
+ * The number each player may hold is capped by {@link Config#MAX_PREFABS_PER_PLAYER}.
+ */
+public class PrefabLibrary {
+
+    public static final MapCodec<PrefabLibrary> CODEC = Prefab.CODEC.listOf()
+        .xmap(PrefabLibrary::new, library -> List.copyOf(library.prefabs.values()))
+        .fieldOf("prefabs");
+
+    private final Map<String, Prefab> prefabs = new LinkedHashMap<>();
+
+    public PrefabLibrary() {
+    }
+
+    private PrefabLibrary(List<Prefab> saved) {
+        for (Prefab prefab : saved) {
+            prefabs.put(prefab.name(), prefab);
+        }
+    }
+
+    public static PrefabLibrary of(Player player) {
+        return player.getData(AttachmentInit.PREFABS);
+    }
+
+    public Prefab get(String name) {
+        return prefabs.get(name);
+    }
+
+    /**
+     * Stores a prefab, replacing one with the same name.
+     * Returns false if the player is already at their limit.
+     */
+    public boolean put(Prefab prefab) {
+        if (!prefabs.containsKey(prefab.name()) && prefabs.size() >= Config.MAX_PREFABS_PER_PLAYER.getAsInt()) {
+            return false;
+        }
+        prefabs.put(prefab.name(), prefab);
+        return true;
+    }
+
+    public boolean remove(String name) {
+        return prefabs.remove(name) != null;
+    }
+
+    public Collection<String> names() {
+        return prefabs.keySet();
+    }
+}
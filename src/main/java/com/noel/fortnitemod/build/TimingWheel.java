@@ -0,0 +1,127 @@
+package com.noel.fortnitemod.build;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.noel.fortnitemod.Fortnite;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * A hashed timing wheel of piece timers, one per level.
+ * <p>
+ * Timers are bucketed by deadline modulo the wheel size. Each tick only the
+ * bucket for that tick is visited, so the cost of a tick depends on the timers
+ * in one bucket, not on how many pieces are building. Timers further out than
+ * one turn of the wheel simply stay in their bucket until their deadline comes round.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class TimingWheel {
+
+    // Power of two, longer than any material's build time
+    private static final int SLOTS = 64;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private static final Map<LevelAccessor, TimingWheel> LEVELS = new IdentityHashMap<>();
+
+    private final LongArrayList[] ids = new LongArrayList[SLOTS];
+    private final LongArrayList[] deadlines = new LongArrayList[SLOTS];
+    private long lastTick = Long.MIN_VALUE;
+    private int size;
+
+    private TimingWheel() {
+        for (int i = 0; i < SLOTS; i++) {
+            ids[i] = new LongArrayList();
+            deadlines[i] = new LongArrayList();
+        }
+    }
+
+    public static TimingWheel of(ServerLevel level) {
+        return LEVELS.computeIfAbsent(level, l -> new TimingWheel());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Fires {@code expired} for a piece at game time {@code deadline}.
+     * A deadline that has already passed fires on the next tick.
+     */
+    public void schedule(long pieceId, long deadline) {
+        if (lastTick != Long.MIN_VALUE && deadline <= lastTick) {
+            deadline = lastTick + 1;
+        }
+        int slot = (int) (deadline & SLOT_MASK);
+        ids[slot].add(pieceId);
+        deadlines[slot].add(deadline);
+        size++;
+    }
+
+    /**
+     * Advances the wheel to {@code now}, finishing every piece whose build-up is over
+     * and publishing its full health.
+     */
+    private void advance(ServerLevel level, long now) {
+        if (lastTick == Long.MIN_VALUE || now - lastTick > SLOTS) {
+            // First tick, or the level skipped ahead: every bucket may hold expired timers
+            lastTick = now - SLOTS;
+        }
+        while (lastTick < now) {
+            lastTick++;
+            if (size > 0) {
+                expire(level, (int) (lastTick & SLOT_MASK), now);
+            }
+        }
+    }
+
+    private void expire(ServerLevel level, int slot, long now) {
+        LongArrayList slotIds = ids[slot];
+        LongArrayList slotDeadlines = deadlines[slot];
+        int i = 0;
+        while (i < slotIds.size()) {
+            if (slotDeadlines.getLong(i) > now) {
+                i++;
+                continue;
+            }
+            long id = slotIds.getLong(i);
+
+            // Swap-remove, order within a bucket does not matter
+            int last = slotIds.size() - 1;
+            slotIds.set(i, slotIds.getLong(last));
+            slotDeadlines.set(i, slotDeadlines.getLong(last));
+            slotIds.removeLong(last);
+            slotDeadlines.removeLong(last);
+            size--;
+
+            // The piece may have been broken or replaced since
+            BuildPiece piece = PieceIndex.forPiece(level, id).get(id);
+            if (piece != null && piece.isBuilding() && piece.buildEnd() <= now) {
+                piece.finishBuild();
+                // Clients and the saved chunk only hold the health last sent, bring them up to full
+                PieceSync.changed(level, piece);
+                PieceStorage.changed(level, piece);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            TimingWheel wheel = LEVELS.get(level);
+            if (wheel != null) {
+                wheel.advance(level, level.getGameTime());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        LEVELS.remove(event.getLevel());
+    }
+}
@@ -0,0 +1,165 @@
+package com.noel.fortnitemod.build;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+/**
+ * Turbo-build: while use is held, the client repeats the interaction every few ticks.
+ * A fast camera sweep can cross several grid cells between two of those repeats,
+ * so each placement also fills the cells the aim swept across since the last one.
+ * <p>
+ * The client reports when use starts and stops being held, so two separate
+ * clicks are never joined up. The sweep is traced by walking the grid from the
+ * previously placed cell to the current one, so no crossed cell is skipped
+ * however far the aim moved.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class TurboBuild {
+
+    private static final Map<UUID, State> STATES = new HashMap<>();
+
+    // Server thread only
+    private static final Sweep SWEEP = new Sweep();
+
+    /**
+     * Held state and last placement of one player.
+     */
+    private static class State {
+        boolean held;
+        boolean placed;
+        PieceType type;
+        Direction facing;
+        int cellX;
+        int cellY;
+        int cellZ;
+        long capTick = Long.MIN_VALUE;
+        int placedThisTick;
+    }
+
+    /**
+     * Records whether a player is holding use. Releasing it forgets the last
+     * placement, so the next click starts a new sweep.
+     */
+    public static void setHeld(Player player, boolean held) {
+        if (held) {
+            STATES.computeIfAbsent(player.getUUID(), id -> new State()).held = true;
+        } else {
+            STATES.remove(player.getUUID());
+        }
+    }
+
+    /**
+     * Adds the piece at the target cell to the batch, plus every cell the aim
+     * swept across since the previous placement if use is being held.
+     * Every placement counts against the per-tick cap; the target is kept a
+     * slot so gap filling never crowds it out.
+     */
+    public static void place(Player player, PieceType type, Direction facing,
+                             int cellX, int cellY, int cellZ, PiecePlacer placer) {
+        long now = player.level().getGameTime();
+        State state = STATES.computeIfAbsent(player.getUUID(), id -> new State());
+
+        if (state.capTick != now) {
+            state.capTick = now;
+            state.placedThisTick = 0;
+        }
+        int cap = Config.TURBO_BUILD_MAX_PIECES_PER_TICK.getAsInt();
+        if (state.placedThisTick >= cap) {
+            return;
+        }
+
+        boolean sweep = Config.TURBO_BUILD.getAsBoolean()
+                && state.held
+                && state.placed
+                && state.type == type
+                && state.facing == facing;
+
+        if (sweep) {
+            SWEEP.fill(player, state, type, facing, cellX, cellY, cellZ, cap - 1, placer);
+        }
+
+        if (placer.placeInCell(type, cellX, cellY, cellZ, facing)) {
+            state.placedThisTick++;
+        }
+
+        state.placed = true;
+        state.type = type;
+        state.facing = facing;
+        state.cellX = cellX;
+        state.cellY = cellY;
+        state.cellZ = cellZ;
+    }
+
+    /**
+     * Fills the cells between the previous target and the current one.
+     */
+    private static class Sweep implements BuildGrid.CellVisitor {
+
+        private State state;
+        private PieceType type;
+        private Direction facing;
+        private PiecePlacer placer;
+        private long fromCell;
+        private long toCell;
+        private long feetCell;
+        private long eyeCell;
+        private int limit;
+
+        void fill(Player player, State state, PieceType type, Direction facing,
+                  int cellX, int cellY, int cellZ, int limit, PiecePlacer placer) {
+            if (state.placedThisTick >= limit) {
+                return;
+            }
+            this.state = state;
+            this.type = type;
+            this.facing = facing;
+            this.placer = placer;
+            this.limit = limit;
+            this.fromCell = BuildGrid.pack(state.cellX, state.cellY, state.cellZ);
+            this.toCell = BuildGrid.pack(cellX, cellY, cellZ);
+            this.feetCell = BuildGrid.pack(BuildGrid.toCell(player.getX()), BuildGrid.toCell(player.getY()), BuildGrid.toCell(player.getZ()));
+            Vec3 eye = player.getEyePosition();
+            this.eyeCell = BuildGrid.pack(BuildGrid.toCell(eye.x), BuildGrid.toCell(eye.y), BuildGrid.toCell(eye.z));
+
+            // Each step crosses one cell boundary, so this reaches the current target
+            int cells = Math.abs(cellX - state.cellX) + Math.abs(cellY - state.cellY) + Math.abs(cellZ - state.cellZ) + 1;
+            BuildGrid.traverse(
+                BuildGrid.cellCentre(state.cellX), BuildGrid.cellCentre(state.cellY), BuildGrid.cellCentre(state.cellZ),
+                BuildGrid.cellCentre(cellX), BuildGrid.cellCentre(cellY), BuildGrid.cellCentre(cellZ),
+                cells, this);
+
+            this.state = null;
+            this.placer = null;
+        }
+
+        @Override
+        public boolean visit(int cellX, int cellY, int cellZ) {
+            long cell = BuildGrid.pack(cellX, cellY, cellZ);
+
+            // Both ends were or will be placed as targets, and never build through the player
+            if (cell == fromCell || cell == toCell || cell == feetCell || cell == eyeCell) {
+                return true;
+            }
+
+            if (placer.placeInCell(type, cellX, cellY, cellZ, facing)) {
+                state.placedThisTick++;
+            }
+            return state.placedThisTick < limit;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        STATES.remove(event.getEntity().getUUID());
+    }
+}
@@ -0,0 +1,92 @@
+package com.noel.fortnitemod.client;
+
+import com.mojang.blaze3d.platform.InputConstants;
+import com.noel.fortnitemod.BlueprintHandler;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.ItemInit;
+import com.noel.fortnitemod.build.PieceMaterial;
+import com.noel.fortnitemod.network.SelectBuildModePayload;
+import com.noel.fortnitemod.network.SelectMaterialPayload;
+import net.minecraft.client.KeyMapping;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.client.event.RegisterKeyMappingsEvent;
+import net.neoforged.neoforge.client.network.ClientPacketDistributor;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Keybinds that jump straight to a build mode, plus one that cycles the material.
+ * The choice is applied to the local stack right away and sent to the server
+ * as a single byte, so swapping modes costs no round trip and no stack resync.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID, value = Dist.CLIENT)
+public class BuildKeyMappings {
+
+    public static final KeyMapping.Category CATEGORY =
+            new KeyMapping.Category(Identifier.fromNamespaceAndPath(Fortnite.MODID, "build"));
+
+    public static final KeyMapping WALL = new KeyMapping("key.fortnite.wall", InputConstants.Type.KEYSYM, GLFW.GLFW_KEY_Z, CATEGORY);
+    public static final KeyMapping FLOOR = new KeyMapping("key.fortnite.floor", InputConstants.Type.KEYSYM, GLFW.GLFW_KEY_V, CATEGORY);
+    public static final KeyMapping RAMP = new KeyMapping("key.fortnite.ramp", InputConstants.Type.KEYSYM, GLFW.GLFW_KEY_B, CATEGORY);
+    public static final KeyMapping EDIT = new KeyMapping("key.fortnite.edit", InputConstants.Type.KEYSYM, GLFW.GLFW_KEY_G, CATEGORY);
+    public static final KeyMapping MATERIAL = new KeyMapping("key.fortnite.material", InputConstants.Type.KEYSYM, GLFW.GLFW_KEY_N, CATEGORY);
+
+    @SubscribeEvent
+    public static void onRegisterKeyMappings(RegisterKeyMappingsEvent event) {
+        event.registerCategory(CATEGORY);
+        event.register(WALL);
+        event.register(FLOOR);
+        event.register(RAMP);
+        event.register(EDIT);
+        event.register(MATERIAL);
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        while (WALL.consumeClick()) select(BlueprintHandler.BuildMode.WALL);
+        while (FLOOR.consumeClick()) select(BlueprintHandler.BuildMode.FLOOR);
+        while (RAMP.consumeClick()) select(BlueprintHandler.BuildMode.RAMP);
+        while (EDIT.consumeClick()) select(BlueprintHandler.BuildMode.EDIT);
+        while (MATERIAL.consumeClick()) cycleMaterial();
+    }
+
+    private static void select(BlueprintHandler.BuildMode mode) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.player == null) {
+            return;
+        }
+
+        ItemStack stack = mc.player.getMainHandItem();
+        if (!stack.is(ItemInit.BLUEPRINT.get()) || BlueprintHandler.getBuildMode(stack) == mode) {
+            return;
+        }
+
+        // Predict locally, the server applies the same change without echoing it back
+        BlueprintHandler.setBuildMode(stack, mode);
+        mc.player.displayClientMessage(Component.literal("§6Build Mode: §f" + mode.getDisplayName()), true);
+        ClientPacketDistributor.sendToServer(new SelectBuildModePayload((byte) mode.getIndex()));
+    }
+
+    private static void cycleMaterial() {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.player == null) {
+            return;
+        }
+
+        ItemStack stack = mc.player.getMainHandItem();
+        if (!stack.is(ItemInit.BLUEPRINT.get())) {
+            return;
+        }
+
+        PieceMaterial material = BlueprintHandler.getMaterial(stack).next();
+        BlueprintHandler.setMaterial(stack, material);
+        mc.player.displayClientMessage(Component.literal("§6Material: §f" + material.displayName()), true);
+        ClientPacketDistributor.sendToServer(new SelectMaterialPayload((byte) material.ordinal()));
+    }
+}
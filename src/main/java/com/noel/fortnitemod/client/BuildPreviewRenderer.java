@@ -1,10 +1,12 @@
 package com.noel.fortnitemod.client;
 
-import com.noel.fortnitemod.BlockInit;
 import com.noel.fortnitemod.BlueprintHandler;
 import com.noel.fortnitemod.BuildSnapHelper;
 import com.noel.fortnitemod.Fortnite;
 import com.noel.fortnitemod.ItemInit;
+import com.noel.fortnitemod.build.BuildGrid;
+import com.noel.fortnitemod.build.BuildRaycast;
+import com.noel.fortnitemod.build.PieceType;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -25,6 +27,9 @@ import java.util.List;
 @EventBusSubscriber(modid = Fortnite.MODID, value = Dist.CLIENT)
 public class BuildPreviewRenderer {
 
+    // Client thread only
+    private static final BuildRaycast RAYCAST = new BuildRaycast();
+
     @SubscribeEvent
     public static void onPlayerTick(PlayerTickEvent.Post event) {
         Player player = event.getEntity();
@@ -38,23 +43,45 @@ public class BuildPreviewRenderer {
         }
 
         Minecraft mc = Minecraft.getInstance();
-        HitResult hitResult = mc.hitResult;
-        if (hitResult == null || hitResult.getType() != HitResult.Type.BLOCK) {
+        if (player != mc.player) {
             return;
         }
-
-        BlockHitResult blockHit = (BlockHitResult) hitResult;
-        BlockPos clickedPos = blockHit.getBlockPos();
-        Direction clickedFace = blockHit.getDirection();
-        BlockPos basePos = clickedPos.relative(clickedFace);
-
+        
+        HitResult hitResult = mc.hitResult;
         BlueprintHandler.BuildMode mode = BlueprintHandler.getBuildModeStatic(mainHand);
+        if (mode.getPieceType() == null) {
+            return;
+        }
         
-        // Apply snapping based on mode
-        if (mode == BlueprintHandler.BuildMode.WALL) {
-            basePos = BuildSnapHelper.getSnappedPosition(level, basePos, player, BlockInit.WOOD_WALL.get());
-        } else if (mode == BlueprintHandler.BuildMode.RAMP) {
-            basePos = BuildSnapHelper.getSnappedRampPosition(level, basePos, player);
+        BlockPos basePos;
+        
+        if (hitResult != null && hitResult.getType() == HitResult.Type.BLOCK) {
+            BlockHitResult blockHit = (BlockHitResult) hitResult;
+            BlockPos clickedPos = blockHit.getBlockPos();
+            Direction clickedFace = blockHit.getDirection();
+            basePos = clickedPos.relative(clickedFace);
+            
+            // Apply snapping based on mode
+            if (mode == BlueprintHandler.BuildMode.WALL) {
+                basePos = BuildSnapHelper.getSnappedPosition(level, basePos, player,
+                    BlueprintHandler.getMaterial(mainHand).block(PieceType.WALL));
+            } else if (mode == BlueprintHandler.BuildMode.RAMP) {
+                basePos = BuildSnapHelper.getSnappedRampPosition(level, basePos, player);
+            }
+            
+            // Same grid alignment the server uses when placing
+            basePos = BuildGrid.anchor(mode.getPieceType(),
+                BuildGrid.toCell(basePos.getX()), BuildGrid.toCell(basePos.getY()), BuildGrid.toCell(basePos.getZ()),
+                player.getDirection());
+        } else {
+            // Aiming at air - same grid raycast the server uses
+            long cell = RAYCAST.pick(level, player, mode.getPieceType(), BuildRaycast.buildRange(player));
+            if (cell == BuildRaycast.NO_CELL) {
+                return;
+            }
+            basePos = BuildGrid.anchor(mode.getPieceType(),
+                BuildGrid.unpackX(cell), BuildGrid.unpackY(cell), BuildGrid.unpackZ(cell),
+                player.getDirection());
         }
         
         List<BlockPos> previewPositions = getPreviewPositions(player, basePos, mode, level);
@@ -67,43 +94,14 @@ public class BuildPreviewRenderer {
 
     public static List<BlockPos> getPreviewPositions(Player player, BlockPos basePos, BlueprintHandler.BuildMode mode, Level level) {
         List<BlockPos> positions = new ArrayList<>();
+        PieceType type = mode.getPieceType();
+        Direction playerFacing = player.getDirection();
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
         
-        if (mode == BlueprintHandler.BuildMode.WALL) {
-            Direction playerFacing = player.getDirection();
-            Direction wallWidthDir = playerFacing.getClockWise();
-            
-            // 3x3 vertical wall
-            for (int y = 0; y < 3; y++) {
-                for (int w = -1; w <= 1; w++) {
-                    BlockPos pos = basePos.relative(wallWidthDir, w).above(y);
-                    if (level.getBlockState(pos).canBeReplaced()) {
-                        positions.add(pos);
-                    }
-                }
-            }
-        } else if (mode == BlueprintHandler.BuildMode.FLOOR) {
-            // 3x3 horizontal floor - centered on basePos
-            for (int x = -1; x <= 1; x++) {
-                for (int z = -1; z <= 1; z++) {
-                    BlockPos pos = basePos.offset(x, 0, z);
-                    if (level.getBlockState(pos).canBeReplaced()) {
-                        positions.add(pos);
-                    }
-                }
-            }
-        } else {
-            // Ramp - 3 wide, 3 deep stepping up in player's facing direction
-            Direction playerFacing = player.getDirection();
-            Direction rampWidthDir = playerFacing.getClockWise();
-            
-            for (int depth = 0; depth < 3; depth++) {
-                for (int w = -1; w <= 1; w++) {
-                    // Each row going forward is 1 block higher
-                    BlockPos pos = basePos.relative(playerFacing, depth).relative(rampWidthDir, w).above(depth);
-                    if (level.getBlockState(pos).canBeReplaced()) {
-                        positions.add(pos);
-                    }
-                }
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            type.tilePos(basePos, playerFacing, tile, cursor);
+            if (level.getBlockState(cursor).canBeReplaced()) {
+                positions.add(cursor.immutable());
             }
         }
         
@@ -0,0 +1,192 @@
+package com.noel.fortnitemod.client;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.build.BuildGrid;
+import com.noel.fortnitemod.build.BuildPiece;
+import com.noel.fortnitemod.build.PieceIndex;
+import com.noel.fortnitemod.build.PieceMaterial;
+import com.noel.fortnitemod.build.PieceType;
+import com.noel.fortnitemod.network.PieceSyncPayload;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.network.event.RegisterClientPayloadHandlersEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+/**
+ * Expands piece sync records into blocks, using the same tile layout
+ * and block states the server placed them with. Missing health is drawn
+ * on every tile as block cracks, so damaged and still-building pieces show it.
+ * The records also fill the client's {@link PieceIndex#client() piece index},
+ * which the build preview's support checks read.
+ * <p>
+ * Each piece the client knows gets its own block of crack breaker ids, one per
+ * tile, so two pieces never overwrite each other's cracks.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID, value = Dist.CLIENT)
+public class PieceSyncClient {
+
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final PieceMaterial[] MATERIALS = PieceMaterial.values();
+
+    // Same as a vanilla block update packet
+    private static final int FLAGS = Block.UPDATE_ALL | Block.UPDATE_KNOWN_SHAPE;
+
+    private static final BlockPos.MutableBlockPos ANCHOR = new BlockPos.MutableBlockPos();
+    private static final BlockPos.MutableBlockPos CURSOR = new BlockPos.MutableBlockPos();
+
+    // Piece id -> first of its TILE_COUNT breaker ids; 0 is never a valid first id
+    private static final Long2IntOpenHashMap CRACK_IDS = new Long2IntOpenHashMap();
+    private static final IntArrayList FREE_CRACK_IDS = new IntArrayList();
+
+    // Breaker ids are entity ids for vanilla cracks, so ours stay negative to never collide
+    private static int nextCrackId = Integer.MIN_VALUE;
+
+    @SubscribeEvent
+    public static void onRegisterPayloadHandlers(RegisterClientPayloadHandlersEvent event) {
+        event.register(PieceSyncPayload.TYPE, (payload, context) -> apply(payload));
+    }
+
+    private static void apply(PieceSyncPayload payload) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+
+        for (int i = 0; i < payload.size(); i++) {
+            long id = payload.ids()[i];
+            int flags = payload.flags()[i];
+            int mask = payload.masks()[i];
+
+            PieceType type = TYPES[flags & PieceSyncPayload.TYPE_MASK];
+            Direction facing = Direction.from2DDataValue((flags >> PieceSyncPayload.FACING_SHIFT) & 3);
+            PieceMaterial material = MATERIALS[(flags >> PieceSyncPayload.MATERIAL_SHIFT) & 3];
+            BlockState state = type.stateFor(material, facing);
+            BuildGrid.anchor(type, BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id), facing, ANCHOR);
+
+            PieceIndex index = PieceIndex.client();
+            index.remove(id);
+            if ((flags & PieceSyncPayload.REMOVED) == 0 && mask != 0) {
+                BuildPiece piece = new BuildPiece(type, material,
+                    BuildPiece.cellX(id), BuildPiece.cellY(id), BuildPiece.cellZ(id), facing, BuildPiece.ALL_TILES);
+                piece.setMask(mask);
+                index.add(piece);
+            }
+
+            // Removed pieces sync an empty mask, which also clears their cracks
+            boolean gone = (flags & PieceSyncPayload.REMOVED) != 0 || mask == 0;
+            int stage = gone ? -1 : crackStage(payload.health()[i], material);
+            int crackId = gone ? CRACK_IDS.get(id) : crackIds(id);
+
+            for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+                type.tilePos(ANCHOR, facing, tile, CURSOR);
+                BlockState current = level.getBlockState(CURSOR);
+                if ((mask & (1 << tile)) != 0) {
+                    if (current != state) {
+                        level.setServerVerifiedBlockState(CURSOR, state, FLAGS);
+                    }
+                    level.destroyBlockProgress(crackId + tile, CURSOR, stage);
+                } else {
+                    if (current == state) {
+                        // Only clear our own blocks, the tile may be held by something else
+                        level.setServerVerifiedBlockState(CURSOR, Blocks.AIR.defaultBlockState(), FLAGS);
+                    }
+                    if (crackId != 0) {
+                        level.destroyBlockProgress(crackId + tile, CURSOR, -1);
+                    }
+                }
+            }
+            if (gone) {
+                releaseCrackIds(id);
+            }
+        }
+    }
+
+    /**
+     * Forgets the pieces anchored in a chunk the client drops,
+     * so pieces it can no longer see never hold up a preview. The server sends
+     * them again in full if the chunk comes back into view.
+     */
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (!(event.getLevel() instanceof ClientLevel level) || !(event.getChunk() instanceof LevelChunk chunk)) {
+            return;
+        }
+        long chunkKey = chunk.getPos().toLong();
+        PieceIndex index = PieceIndex.client();
+        LongArrayList dropped = new LongArrayList();
+        for (long id : index.ids()) {
+            BlockPos anchor = index.get(id).anchor();
+            if (ChunkPos.asLong(SectionPos.blockToSectionCoord(anchor.getX()), SectionPos.blockToSectionCoord(anchor.getZ())) == chunkKey) {
+                dropped.add(id);
+            }
+        }
+        for (int i = 0; i < dropped.size(); i++) {
+            BuildPiece piece = index.get(dropped.getLong(i));
+            clearCracks(level, piece);
+            index.remove(piece.id());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ClientLevel) {
+            CRACK_IDS.clear();
+            FREE_CRACK_IDS.clear();
+            nextCrackId = Integer.MIN_VALUE;
+        }
+    }
+
+    // Crack stages 0-9 as health runs out; -1 clears the overlay
+    private static int crackStage(int health, PieceMaterial material) {
+        float missing = 1.0f - health / material.maxHealth();
+        return Math.min((int) (missing * 10.0f) - 1, 9);
+    }
+
+    // The first breaker id of a piece, handing it a block of ids if it has none yet
+    private static int crackIds(long id) {
+        int first = CRACK_IDS.get(id);
+        if (first == 0) {
+            if (FREE_CRACK_IDS.isEmpty()) {
+                first = nextCrackId;
+                nextCrackId += PieceType.TILE_COUNT;
+            } else {
+                first = FREE_CRACK_IDS.popInt();
+            }
+            CRACK_IDS.put(id, first);
+        }
+        return first;
+    }
+
+    private static void releaseCrackIds(long id) {
+        int first = CRACK_IDS.remove(id);
+        if (first != 0) {
+            FREE_CRACK_IDS.add(first);
+        }
+    }
+
+    private static void clearCracks(ClientLevel level, BuildPiece piece) {
+        int first = CRACK_IDS.get(piece.id());
+        if (first == 0) {
+            return;
+        }
+        for (int tile = 0; tile < PieceType.TILE_COUNT; tile++) {
+            level.destroyBlockProgress(first + tile, piece.tilePos(tile, CURSOR), -1);
+        }
+        releaseCrackIds(piece.id());
+    }
+}
@@ -0,0 +1,136 @@
+package com.noel.fortnitemod.client;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import com.mojang.blaze3d.buffers.GpuBuffer;
+import com.mojang.blaze3d.buffers.GpuBufferSlice;
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.systems.RenderPass;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.ByteBufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.storm.StormPayload;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.RenderPipelines;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import net.neoforged.neoforge.client.network.event.RegisterClientPayloadHandlersEvent;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fStack;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+/**
+ * Draws the storm wall as one translucent cylinder.
+ * <p>
+ * The cylinder is a unit mesh uploaded to the GPU once. Each frame only the
+ * interpolated centre, radius and height change, applied through the
+ * model-view matrix, so a frame costs one draw call and no vertex writes.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID, value = Dist.CLIENT)
+public class StormRenderer {
+
+    private static final int SEGMENTS = 128;
+    private static final int COLOR = 0x666A2DBF;
+
+    private static final RenderSystem.AutoStorageIndexBuffer QUAD_INDICES =
+            RenderSystem.getSequentialBuffer(VertexFormat.Mode.QUADS);
+
+    private static final Vector4f NO_TINT = new Vector4f(1, 1, 1, 1);
+
+    private static StormPayload storm = StormPayload.NONE;
+
+    // Built on first use, on the render thread
+    private static GpuBuffer cylinder;
+    private static int indexCount;
+
+    @SubscribeEvent
+    public static void onRegisterPayloadHandlers(RegisterClientPayloadHandlersEvent event) {
+        event.register(StormPayload.TYPE, (payload, context) -> storm = payload);
+    }
+
+    /**
+     * Uploads a cylinder of radius 1 from y 0 to 1, wound both ways
+     * so the wall shows from inside and outside.
+     */
+    private static void buildCylinder() {
+        int vertices = SEGMENTS * 8;
+        try (ByteBufferBuilder bytes = ByteBufferBuilder.exactlySized(DefaultVertexFormat.POSITION_COLOR.getVertexSize() * vertices)) {
+            BufferBuilder buffer = new BufferBuilder(bytes, VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR);
+            for (int i = 0; i < SEGMENTS; i++) {
+                double a0 = Math.PI * 2 * i / SEGMENTS;
+                double a1 = Math.PI * 2 * (i + 1) / SEGMENTS;
+                float x0 = (float) Math.cos(a0), z0 = (float) Math.sin(a0);
+                float x1 = (float) Math.cos(a1), z1 = (float) Math.sin(a1);
+
+                buffer.addVertex(x0, 0, z0).setColor(COLOR);
+                buffer.addVertex(x1, 0, z1).setColor(COLOR);
+                buffer.addVertex(x1, 1, z1).setColor(COLOR);
+                buffer.addVertex(x0, 1, z0).setColor(COLOR);
+
+                buffer.addVertex(x0, 1, z0).setColor(COLOR);
+                buffer.addVertex(x1, 1, z1).setColor(COLOR);
+                buffer.addVertex(x1, 0, z1).setColor(COLOR);
+                buffer.addVertex(x0, 0, z0).setColor(COLOR);
+            }
+            try (MeshData mesh = buffer.buildOrThrow()) {
+                indexCount = mesh.drawState().indexCount();
+                cylinder = RenderSystem.getDevice().createBuffer(() -> "Storm cylinder", GpuBuffer.USAGE_VERTEX, mesh.vertexBuffer());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevel(RenderLevelStageEvent.AfterTranslucentBlocks event) {
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        if (level == null) {
+            storm = StormPayload.NONE;
+            return;
+        }
+        if (!storm.active()) {
+            return;
+        }
+        if (cylinder == null) {
+            buildCylinder();
+        }
+
+        double time = level.getGameTime() + mc.getDeltaTracker().getGameTimeDeltaPartialTick(false);
+        double progress = storm.progress(time);
+        float radius = (float) storm.radius(progress);
+        Vec3 camera = mc.gameRenderer.getMainCamera().position();
+        float bottom = (float) (level.getMinY() - camera.y);
+        float height = level.getMaxY() - level.getMinY();
+
+        Matrix4fStack modelView = RenderSystem.getModelViewStack();
+        modelView.pushMatrix();
+        modelView.mul(event.getPoseStack().last().pose());
+        modelView.translate((float) (storm.centreX(progress) - camera.x), bottom, (float) (storm.centreZ(progress) - camera.z));
+        modelView.scale(radius, height, radius);
+
+        GpuBufferSlice transform = RenderSystem.getDynamicUniforms()
+                .writeTransform(modelView, NO_TINT, new Vector3f(), new Matrix4f());
+        GpuBuffer indices = QUAD_INDICES.getBuffer(indexCount);
+        RenderTarget target = mc.getMainRenderTarget();
+
+        try (RenderPass pass = RenderSystem.getDevice().createCommandEncoder().createRenderPass(() -> "Storm",
+                target.getColorTextureView(), OptionalInt.empty(), target.getDepthTextureView(), OptionalDouble.empty())) {
+            pass.setPipeline(RenderPipelines.DEBUG_QUADS);
+            RenderSystem.bindDefaultUniforms(pass);
+            pass.setUniform("DynamicTransforms", transform);
+            pass.setVertexBuffer(0, cylinder);
+            pass.setIndexBuffer(indices, QUAD_INDICES.type());
+            pass.drawIndexed(0, 0, indexCount, 1);
+        }
+        modelView.popMatrix();
+    }
+}
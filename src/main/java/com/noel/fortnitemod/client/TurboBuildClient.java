@@ -0,0 +1,37 @@
+package com.noel.fortnitemod.client;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.ItemInit;
+import com.noel.fortnitemod.network.TurboBuildHeldPayload;
+import net.minecraft.client.Minecraft;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.client.network.ClientPacketDistributor;
+
+/**
+ * Tells the server when use starts and stops being held with a blueprint.
+ * Only changes are sent, so holding or idling costs nothing on the wire.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID, value = Dist.CLIENT)
+public class TurboBuildClient {
+
+    private static boolean held;
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        Minecraft mc = Minecraft.getInstance();
+        boolean now = mc.player != null
+                && mc.screen == null
+                && mc.options.keyUse.isDown()
+                && mc.player.getMainHandItem().is(ItemInit.BLUEPRINT.get());
+        if (now == held) {
+            return;
+        }
+        held = now;
+        if (mc.getConnection() != null) {
+            ClientPacketDistributor.sendToServer(new TurboBuildHeldPayload(now));
+        }
+    }
+}
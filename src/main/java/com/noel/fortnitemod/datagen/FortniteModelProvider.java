@@ -0,0 +1,107 @@
+package com.noel.fortnitemod.datagen;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.block.RampPieceBlock;
+import com.noel.fortnitemod.block.WallPieceBlock;
+import com.noel.fortnitemod.build.PieceMaterial;
+import com.noel.fortnitemod.build.PieceType;
+import net.minecraft.client.data.models.BlockModelGenerators;
+import net.minecraft.client.data.models.ItemModelGenerators;
+import net.minecraft.client.data.models.ModelProvider;
+import net.minecraft.client.data.models.blockstates.MultiVariantGenerator;
+import net.minecraft.client.data.models.blockstates.PropertyDispatch;
+import net.minecraft.client.data.models.model.ModelTemplate;
+import net.minecraft.client.data.models.model.TextureMapping;
+import net.minecraft.client.data.models.model.TextureSlot;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+
+/**
+ * Generates the piece models for every material.
+ * All materials share the hand-written geometry in the template models,
+ * each variant only swaps the texture, and facings reuse one model through rotation.
+ */
+public class FortniteModelProvider extends ModelProvider {
+
+    private static final ModelTemplate WALL = template("template_wall");
+    private static final ModelTemplate FLOOR = template("template_floor");
+    private static final ModelTemplate RAMP = template("template_ramp");
+
+    public FortniteModelProvider(PackOutput output) {
+        super(output, Fortnite.MODID);
+    }
+
+    @Override
+    protected void registerModels(BlockModelGenerators blockModels, ItemModelGenerators itemModels) {
+        for (PieceMaterial material : PieceMaterial.values()) {
+            TextureMapping textures = textures(material);
+
+            Block wall = material.block(PieceType.WALL);
+            Identifier wallModel = WALL.create(wall, textures, blockModels.modelOutput);
+            // Walls on the same axis cover the same blocks, so they share a rotation
+            blockModels.blockStateOutput.accept(MultiVariantGenerator.dispatch(wall, BlockModelGenerators.plainVariant(wallModel))
+                    .with(PropertyDispatch.modify(WallPieceBlock.FACING)
+                            .select(Direction.NORTH, BlockModelGenerators.NOP)
+                            .select(Direction.SOUTH, BlockModelGenerators.NOP)
+                            .select(Direction.EAST, BlockModelGenerators.Y_ROT_90)
+                            .select(Direction.WEST, BlockModelGenerators.Y_ROT_90)));
+            blockModels.registerSimpleItemModel(wall, wallModel);
+
+            Block floor = material.block(PieceType.FLOOR);
+            Identifier floorModel = FLOOR.create(floor, textures, blockModels.modelOutput);
+            blockModels.blockStateOutput.accept(BlockModelGenerators.createSimpleBlock(floor, BlockModelGenerators.plainVariant(floorModel)));
+            blockModels.registerSimpleItemModel(floor, floorModel);
+
+            // The ramp template rises towards the south
+            Block ramp = material.block(PieceType.RAMP);
+            Identifier rampModel = RAMP.create(ramp, textures, blockModels.modelOutput);
+            blockModels.blockStateOutput.accept(MultiVariantGenerator.dispatch(ramp, BlockModelGenerators.plainVariant(rampModel))
+                    .with(PropertyDispatch.modify(RampPieceBlock.FACING)
+                            .select(Direction.SOUTH, BlockModelGenerators.NOP)
+                            .select(Direction.WEST, BlockModelGenerators.Y_ROT_90)
+                            .select(Direction.NORTH, BlockModelGenerators.Y_ROT_180)
+                            .select(Direction.EAST, BlockModelGenerators.Y_ROT_270)));
+            blockModels.registerSimpleItemModel(ramp, rampModel);
+        }
+    }
+
+    // Only pieces are generated, the blueprint and example content keep their own files
+    @Override
+    protected Stream<? extends Holder<Block>> getKnownBlocks() {
+        return pieceBlocks().map(Block::builtInRegistryHolder);
+    }
+
+    @Override
+    protected Stream<? extends Holder<Item>> getKnownItems() {
+        return pieceBlocks().map(block -> block.asItem().builtInRegistryHolder());
+    }
+
+    private static Stream<Block> pieceBlocks() {
+        return Stream.of(PieceMaterial.values())
+                .flatMap(material -> Stream.of(PieceType.values()).map(material::block));
+    }
+
+    private static ModelTemplate template(String name) {
+        Identifier parent = Identifier.fromNamespaceAndPath(Fortnite.MODID, "block/" + name);
+        return new ModelTemplate(Optional.of(parent), Optional.empty(), TextureSlot.TEXTURE, TextureSlot.PARTICLE);
+    }
+
+    private static TextureMapping textures(PieceMaterial material) {
+        Identifier texture = switch (material) {
+            case WOOD -> Identifier.fromNamespaceAndPath(Fortnite.MODID, "block/wood_wall");
+            case BRICK -> TextureMapping.getBlockTexture(Blocks.BRICKS);
+            case METAL -> TextureMapping.getBlockTexture(Blocks.IRON_BLOCK);
+        };
+        return new TextureMapping()
+                .put(TextureSlot.TEXTURE, texture)
+                .put(TextureSlot.PARTICLE, texture);
+    }
+}
@@ -0,0 +1,71 @@
+package com.noel.fortnitemod.loot;
+
+import net.minecraft.util.RandomSource;
+
+/**
+ * Walker's alias method: draws an index with probability proportional to its
+ * weight in O(1), one random column and one coin flip, however many entries there are.
+ * Building the table is O(n) and happens once, when loot tables load.
+ */
+public final class AliasTable {
+
+    private final float[] probability;
+    private final int[] alias;
+
+    public AliasTable(float[] weights) {
+        int n = weights.length;
+        probability = new float[n];
+        alias = new int[n];
+
+        double total = 0;
+        for (float weight : weights) {
+            total += weight;
+        }
+
+        // Scale so the average column is exactly 1, then pair short columns with tall ones
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+
+            scaled[more] += scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    public int sample(RandomSource random) {
+        int column = random.nextInt(probability.length);
+        return random.nextFloat() < probability[column] ? column : alias[column];
+    }
+}
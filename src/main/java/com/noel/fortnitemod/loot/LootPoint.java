@@ -0,0 +1,18 @@
+package com.noel.fortnitemod.loot;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.Identifier;
+
+/**
+ * A spot in an arena that gets loot at match start: items on the floor, or a filled chest.
+ */
+public record LootPoint(BlockPos pos, Identifier table, boolean chest) {
+
+    public static final Codec<LootPoint> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+        BlockPos.CODEC.fieldOf("pos").forGetter(LootPoint::pos),
+        Identifier.CODEC.fieldOf("table").forGetter(LootPoint::table),
+        Codec.BOOL.optionalFieldOf("chest", false).forGetter(LootPoint::chest)
+    ).apply(instance, LootPoint::new));
+}
@@ -0,0 +1,136 @@
+package com.noel.fortnitemod.loot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.build.BulkBuild;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Fills loot points a budgeted number per tick.
+ * <p>
+ * Every draw for a batch of points is made up front, which is cheap with alias
+ * tables. Only the world writes are spread over the following ticks, chests
+ * going through one {@link BulkBuild} per tick.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class LootSpawner {
+
+    private static final Map<LevelAccessor, ArrayDeque<Drop>> QUEUES = new IdentityHashMap<>();
+
+    private record Drop(String owner, BlockPos pos, boolean chest, List<ItemStack> items) {
+    }
+
+    /**
+     * Rolls every loot point and queues the results for placement, replacing
+     * anything still queued for the same owner so a restart never stacks drops.
+     * Returns the number of points queued; points naming an unknown table or
+     * lying in an unloaded chunk are skipped.
+     */
+    public static int spawn(ServerLevel level, String owner, List<LootPoint> points) {
+        ArrayDeque<Drop> queue = QUEUES.computeIfAbsent(level, l -> new ArrayDeque<>());
+        queue.removeIf(drop -> drop.owner().equals(owner));
+
+        RandomSource random = level.getRandom();
+        int queued = 0;
+        for (LootPoint point : points) {
+            RarityTable table = RarityTables.get(point.table());
+            if (table == null || !level.isLoaded(point.pos())) {
+                continue;
+            }
+            List<ItemStack> items = new ArrayList<>(table.rolls());
+            table.roll(random, items::add);
+            queue.add(new Drop(owner, point.pos(), point.chest(), items));
+            queued++;
+        }
+        return queued;
+    }
+
+    private static void place(ServerLevel level, ArrayDeque<Drop> queue, int budget) {
+        RandomSource random = level.getRandom();
+        try (BulkBuild bulk = new BulkBuild(level)) {
+            int placed = 0;
+            while (placed < budget && !queue.isEmpty()) {
+                Drop drop = queue.poll();
+                // Unloaded since it was rolled, it is dropped without using up the budget
+                if (!level.isLoaded(drop.pos())) {
+                    continue;
+                }
+                placed++;
+
+                if (drop.chest()) {
+                    bulk.setBlock(drop.pos(), Blocks.CHEST.defaultBlockState());
+                    if (level.getBlockEntity(drop.pos()) instanceof ChestBlockEntity chest) {
+                        chest.clearContent();
+                        fillChest(chest, drop.items(), random);
+                    }
+                } else {
+                    for (ItemStack stack : drop.items()) {
+                        ItemEntity item = new ItemEntity(level,
+                            drop.pos().getX() + 0.5, drop.pos().getY(), drop.pos().getZ() + 0.5, stack, 0, 0, 0);
+                        level.addFreshEntity(item);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts each item in its own random slot. Slots are shuffled once, so no roll
+     * overwrites another and the table's distribution survives into the chest.
+     */
+    private static void fillChest(ChestBlockEntity chest, List<ItemStack> items, RandomSource random) {
+        int[] slots = new int[chest.getContainerSize()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+        }
+        for (int i = slots.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = slots[i];
+            slots[i] = slots[j];
+            slots[j] = swap;
+        }
+
+        int next = 0;
+        for (ItemStack stack : items) {
+            while (next < slots.length && !chest.getItem(slots[next]).isEmpty()) {
+                next++;
+            }
+            if (next == slots.length) {
+                return;
+            }
+            chest.setItem(slots[next++], stack);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            ArrayDeque<Drop> queue = QUEUES.get(level);
+            if (queue != null && !queue.isEmpty()) {
+                place(level, queue, Config.LOOT_POINTS_PER_TICK.getAsInt());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        QUEUES.remove(event.getLevel());
+    }
+}
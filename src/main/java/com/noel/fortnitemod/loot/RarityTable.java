@@ -0,0 +1,78 @@
+package com.noel.fortnitemod.loot;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.Holder;
+import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A weighted loot table loaded from {@code data/<namespace>/fortnite_loot/}.
+ * The weights are compiled into an {@link AliasTable} when the table loads,
+ * so each item drawn costs the same no matter how many entries the table has.
+ * <pre>
+ * {
+ *   "rolls": 2,
+ *   "entries": [
+ *     { "item": "minecraft:golden_apple", "weight": 1 },
+ *     { "item": "minecraft:arrow", "count": 8, "weight": 20 }
+ *   ]
+ * }
+ * </pre>
+ */
+public class RarityTable {
+
+    public record Entry(Holder<Item> item, int count, float weight) {
+        public static final Codec<Entry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Item.CODEC.fieldOf("item").forGetter(Entry::item),
+            ExtraCodecs.POSITIVE_INT.optionalFieldOf("count", 1).forGetter(Entry::count),
+            ExtraCodecs.POSITIVE_FLOAT.fieldOf("weight").forGetter(Entry::weight)
+        ).apply(instance, Entry::new));
+    }
+
+    public static final Codec<RarityTable> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+        ExtraCodecs.POSITIVE_INT.optionalFieldOf("rolls", 1).forGetter(RarityTable::rolls),
+        ExtraCodecs.nonEmptyList(Entry.CODEC.listOf()).fieldOf("entries").forGetter(RarityTable::entries)
+    ).apply(instance, RarityTable::new));
+
+    private final int rolls;
+    private final List<Entry> entries;
+    private final AliasTable sampler;
+
+    public RarityTable(int rolls, List<Entry> entries) {
+        this.rolls = rolls;
+        this.entries = List.copyOf(entries);
+
+        float[] weights = new float[entries.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = entries.get(i).weight();
+        }
+        this.sampler = new AliasTable(weights);
+    }
+
+    public int rolls() {
+        return rolls;
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * Draws {@code rolls} items from the table.
+     */
+    public void roll(RandomSource random, Consumer<ItemStack> output) {
+        for (int i = 0; i < rolls; i++) {
+            Entry entry = entries.get(sampler.sample(random));
+            ItemStack stack = new ItemStack(entry.item(), entry.count());
+            if (!stack.isEmpty()) {
+                output.accept(stack);
+            }
+        }
+    }
+}
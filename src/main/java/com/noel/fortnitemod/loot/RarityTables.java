@@ -0,0 +1,46 @@
+package com.noel.fortnitemod.loot;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.resources.FileToIdConverter;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddServerReloadListenersEvent;
+
+/**
+ * Loads every rarity table from data packs, on server start and on /reload.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class RarityTables extends SimpleJsonResourceReloadListener<RarityTable> {
+
+    private static volatile Map<Identifier, RarityTable> tables = Map.of();
+
+    private RarityTables() {
+        super(RarityTable.CODEC, FileToIdConverter.json("fortnite_loot"));
+    }
+
+    public static RarityTable get(Identifier id) {
+        return tables.get(id);
+    }
+
+    public static Set<Identifier> ids() {
+        return tables.keySet();
+    }
+
+    @Override
+    protected void apply(Map<Identifier, RarityTable> loaded, ResourceManager resourceManager, ProfilerFiller profiler) {
+        tables = Map.copyOf(loaded);
+        Fortnite.LOGGER.info("Loaded {} rarity tables", loaded.size());
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddServerReloadListenersEvent event) {
+        event.addListener(Identifier.fromNamespaceAndPath(Fortnite.MODID, "rarity_tables"), new RarityTables());
+    }
+}
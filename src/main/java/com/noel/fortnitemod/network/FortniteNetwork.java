@@ -0,0 +1,31 @@
+package com.noel.fortnitemod.network;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.storm.StormPayload;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registers every custom payload the mod sends.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class FortniteNetwork {
+
+    // Bump when a payload format changes
+    private static final String PROTOCOL_VERSION = "1";
+
+    @SubscribeEvent
+    public static void onRegisterPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+
+        registrar.playToServer(SelectBuildModePayload.TYPE, SelectBuildModePayload.STREAM_CODEC, SelectBuildModePayload::handle);
+        registrar.playToServer(SelectMaterialPayload.TYPE, SelectMaterialPayload.STREAM_CODEC, SelectMaterialPayload::handle);
+        registrar.playToServer(TurboBuildHeldPayload.TYPE, TurboBuildHeldPayload.STREAM_CODEC, TurboBuildHeldPayload::handle);
+
+        // Client handlers are registered on the client side only
+        registrar.playToClient(StormPayload.TYPE, StormPayload.STREAM_CODEC);
+        registrar.playToClient(PieceSyncPayload.TYPE, PieceSyncPayload.STREAM_CODEC);
+    }
+}
@@ -0,0 +1,79 @@
+package com.noel.fortnitemod.network;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.build.BuildPiece;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+
+/**
+ * Server to client: the pieces that changed in one chunk this tick.
+ * <p>
+ * Each record is a piece id (which holds the grid cell and slot), a flags byte
+ * (type, facing, material, removed), the 9-bit mask of solid tiles and the
+ * health. Records are sent sorted by id, with ids as varint deltas, so
+ * a record usually takes 5 to 8 bytes against one block update per tile.
+ */
+public record PieceSyncPayload(long[] ids, byte[] flags, short[] masks, int[] health) implements CustomPacketPayload {
+
+    public static final Type<PieceSyncPayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(Fortnite.MODID, "piece_sync"));
+
+    public static final StreamCodec<FriendlyByteBuf, PieceSyncPayload> STREAM_CODEC =
+            StreamCodec.ofMember(PieceSyncPayload::write, PieceSyncPayload::read);
+
+    // Flags layout: removed (1) | unused (1) | material (2) | facing (2) | type (2)
+    public static final int TYPE_MASK = 0x03;
+    public static final int FACING_SHIFT = 2;
+    public static final int MATERIAL_SHIFT = 4;
+    public static final int REMOVED = 0x80;
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(ids.length);
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            buf.writeVarLong(ids[i] - previous);
+            previous = ids[i];
+            buf.writeByte(flags[i]);
+            buf.writeShort(masks[i]);
+            buf.writeVarInt(health[i]);
+        }
+    }
+
+    private static PieceSyncPayload read(FriendlyByteBuf buf) {
+        int size = buf.readVarInt();
+        long[] ids = new long[size];
+        byte[] flags = new byte[size];
+        short[] masks = new short[size];
+        int[] health = new int[size];
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += buf.readVarLong();
+            ids[i] = previous;
+            flags[i] = buf.readByte();
+            masks[i] = buf.readShort();
+            health[i] = buf.readVarInt();
+        }
+        return new PieceSyncPayload(ids, flags, masks, health);
+    }
+
+    /**
+     * Packs the flags byte of a record.
+     */
+    public static byte flags(BuildPiece piece, boolean removed) {
+        return (byte) (piece.type().ordinal()
+            | piece.facing().get2DDataValue() << FACING_SHIFT
+            | piece.material().ordinal() << MATERIAL_SHIFT
+            | (removed ? REMOVED : 0));
+    }
+}
@@ -0,0 +1,57 @@
+package com.noel.fortnitemod.network;
+
+import com.noel.fortnitemod.BlueprintHandler;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.ItemInit;
+import com.noel.fortnitemod.build.PieceEditor;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Client to server: select a build mode on the held blueprint.
+ * One byte on the wire, sent by the build mode keybinds.
+ */
+public record SelectBuildModePayload(byte mode) implements CustomPacketPayload {
+
+    public static final Type<SelectBuildModePayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(Fortnite.MODID, "select_build_mode"));
+
+    public static final StreamCodec<ByteBuf, SelectBuildModePayload> STREAM_CODEC =
+            StreamCodec.composite(ByteBufCodecs.BYTE, SelectBuildModePayload::mode, SelectBuildModePayload::new);
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    static void handle(SelectBuildModePayload payload, IPayloadContext context) {
+        if (!(context.player() instanceof ServerPlayer player)) {
+            return;
+        }
+
+        ItemStack stack = player.getMainHandItem();
+        if (!stack.is(ItemInit.BLUEPRINT.get())) {
+            return;
+        }
+
+        BlueprintHandler.BuildMode mode = BlueprintHandler.BuildMode.fromIndex(payload.mode());
+        if (BlueprintHandler.getBuildMode(stack) == mode) {
+            return;
+        }
+
+        PieceEditor.confirm(player, player.level());
+        BlueprintHandler.setBuildMode(stack, mode);
+
+        // The client already applied the same change to its copy of the stack,
+        // so tell the menu it is in sync instead of resending the whole stack
+        int slot = InventoryMenu.USE_ROW_SLOT_START + player.getInventory().getSelectedSlot();
+        player.inventoryMenu.setRemoteSlot(slot, stack);
+    }
+}
@@ -0,0 +1,55 @@
+package com.noel.fortnitemod.network;
+
+import com.noel.fortnitemod.BlueprintHandler;
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.ItemInit;
+import com.noel.fortnitemod.build.PieceMaterial;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Client to server: select the material the held blueprint builds with.
+ * One byte on the wire, sent by the material keybind.
+ */
+public record SelectMaterialPayload(byte material) implements CustomPacketPayload {
+
+    public static final Type<SelectMaterialPayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(Fortnite.MODID, "select_material"));
+
+    public static final StreamCodec<ByteBuf, SelectMaterialPayload> STREAM_CODEC =
+            StreamCodec.composite(ByteBufCodecs.BYTE, SelectMaterialPayload::material, SelectMaterialPayload::new);
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    static void handle(SelectMaterialPayload payload, IPayloadContext context) {
+        if (!(context.player() instanceof ServerPlayer player)) {
+            return;
+        }
+
+        ItemStack stack = player.getMainHandItem();
+        if (!stack.is(ItemInit.BLUEPRINT.get())) {
+            return;
+        }
+
+        PieceMaterial material = PieceMaterial.fromIndex(payload.material());
+        if (BlueprintHandler.getMaterial(stack) == material) {
+            return;
+        }
+
+        BlueprintHandler.setMaterial(stack, material);
+
+        // Same as build modes, the client predicted this change already
+        int slot = InventoryMenu.USE_ROW_SLOT_START + player.getInventory().getSelectedSlot();
+        player.inventoryMenu.setRemoteSlot(slot, stack);
+    }
+}
@@ -0,0 +1,35 @@
+package com.noel.fortnitemod.network;
+
+import com.noel.fortnitemod.Fortnite;
+import com.noel.fortnitemod.build.TurboBuild;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Client to server: use started or stopped being held with a blueprint,
+ * so turbo-build only joins up placements from one continuous hold.
+ */
+public record TurboBuildHeldPayload(boolean held) implements CustomPacketPayload {
+
+    public static final Type<TurboBuildHeldPayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(Fortnite.MODID, "turbo_build_held"));
+
+    public static final StreamCodec<ByteBuf, TurboBuildHeldPayload> STREAM_CODEC =
+            StreamCodec.composite(ByteBufCodecs.BOOL, TurboBuildHeldPayload::held, TurboBuildHeldPayload::new);
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    static void handle(TurboBuildHeldPayload payload, IPayloadContext context) {
+        if (context.player() instanceof ServerPlayer player) {
+            TurboBuild.setHeld(player, payload.held());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.noel.fortnitemod.storm;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.noel.fortnitemod.Config;
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * The shrinking storm circle of a level.
+ * <p>
+ * The current centre and squared radius are worked out once per tick, so
+ * checking a player is one squared distance compare. Clients are sent each
+ * shrink once, as a {@link StormPayload}, and interpolate it themselves.
+ */
+@EventBusSubscriber(modid = Fortnite.MODID)
+public class Storm {
+
+    private static final Map<LevelAccessor, Storm> LEVELS = new IdentityHashMap<>();
+
+    private static final int DAMAGE_INTERVAL_TICKS = 20;
+
+    private final List<StormPhase> phases;
+    private final double startRadius;
+
+    private int phase = -1;
+    private StormPayload shrink;
+
+    // Cached once per tick
+    private double centreX;
+    private double centreZ;
+    private double radiusSq;
+
+    private Storm(List<StormPhase> phases, double centreX, double centreZ, double radius) {
+        this.phases = phases;
+        this.startRadius = radius;
+        this.centreX = centreX;
+        this.centreZ = centreZ;
+        this.radiusSq = radius * radius;
+    }
+
+    public static Storm get(ServerLevel level) {
+        return LEVELS.get(level);
+    }
+
+    /**
+     * Starts a storm around a point, running the phases from the config.
+     * Returns null if no valid phases are configured.
+     */
+    public static Storm start(ServerLevel level, double centreX, double centreZ, double radius) {
+        List<StormPhase> phases = new ArrayList<>();
+        for (String entry : Config.STORM_PHASES.get()) {
+            StormPhase phase = StormPhase.parse(entry);
+            if (phase != null) {
+                phases.add(phase);
+            }
+        }
+        if (phases.isEmpty()) {
+            return null;
+        }
+
+        Storm storm = new Storm(phases, centreX, centreZ, radius);
+        LEVELS.put(level, storm);
+        storm.nextPhase(level, level.getGameTime(), centreX, centreZ, radius);
+        return storm;
+    }
+
+    public static boolean stop(ServerLevel level) {
+        if (LEVELS.remove(level) == null) {
+            return false;
+        }
+        PacketDistributor.sendToPlayersInDimension(level, StormPayload.NONE);
+        return true;
+    }
+
+    public int phase() {
+        return phase;
+    }
+
+    public double radius() {
+        return Math.sqrt(radiusSq);
+    }
+
+    public boolean isOutside(double x, double z) {
+        double dx = x - centreX;
+        double dz = z - centreZ;
+        return dx * dx + dz * dz > radiusSq;
+    }
+
+    /**
+     * Moves on to the next phase, picking a smaller circle that fits inside the current one,
+     * and tells every player in the level about it.
+     */
+    private void nextPhase(ServerLevel level, long now, double fromX, double fromZ, double fromRadius) {
+        phase++;
+        StormPhase next = phases.get(phase);
+        double toRadius = Math.min(fromRadius, startRadius * next.radiusScale());
+
+        // Any point that keeps the new circle inside the old one
+        double angle = level.getRandom().nextDouble() * Math.PI * 2;
+        double offset = level.getRandom().nextDouble() * (fromRadius - toRadius);
+        double toX = fromX + Math.cos(angle) * offset;
+        double toZ = fromZ + Math.sin(angle) * offset;
+
+        long shrinkStart = now + next.waitTicks();
+        shrink = new StormPayload(fromX, fromZ, fromRadius, toX, toZ, toRadius,
+            shrinkStart, shrinkStart + next.shrinkTicks());
+        PacketDistributor.sendToPlayersInDimension(level, shrink);
+    }
+
+    private void tick(ServerLevel level) {
+        long now = level.getGameTime();
+        if (now >= shrink.shrinkEnd() && phase < phases.size() - 1) {
+            nextPhase(level, now, shrink.toX(), shrink.toZ(), shrink.toRadius());
+        }
+
+        double progress = shrink.progress(now);
+        double radius = shrink.radius(progress);
+        centreX = shrink.centreX(progress);
+        centreZ = shrink.centreZ(progress);
+        radiusSq = radius * radius;
+
+        if (now % DAMAGE_INTERVAL_TICKS != 0) {
+            return;
+        }
+        float damage = phases.get(phase).damage();
+        if (damage <= 0) {
+            return;
+        }
+        for (ServerPlayer player : level.players()) {
+            if (player.isSpectator() || player.isCreative()) {
+                continue;
+            }
+            if (isOutside(player.getX(), player.getZ())) {
+                player.hurtServer(level, level.damageSources().outOfBorder(), damage);
+            }
+        }
+    }
+
+    private static void sync(ServerPlayer player) {
+        Storm storm = LEVELS.get(player.level());
+        PacketDistributor.sendToPlayer(player, storm != null ? storm.shrink : StormPayload.NONE);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            Storm storm = LEVELS.get(level);
+            if (storm != null) {
+                storm.tick(level);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            sync(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            sync(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        LEVELS.remove(event.getLevel());
+    }
+}
@@ -0,0 +1,78 @@
+package com.noel.fortnitemod.storm;
+
+import com.noel.fortnitemod.Fortnite;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.util.Mth;
+
+/**
+ * Server to client: one shrink of the storm circle, from one circle to another
+ * between two game times. Sent once per phase; both sides interpolate the
+ * current circle from it, so the radius never goes over the network per tick.
+ * A negative {@code fromRadius} means there is no storm.
+ */
+public record StormPayload(double fromX, double fromZ, double fromRadius,
+                           double toX, double toZ, double toRadius,
+                           long shrinkStart, long shrinkEnd) implements CustomPacketPayload {
+
+    public static final StormPayload NONE = new StormPayload(0, 0, -1, 0, 0, -1, 0, 0);
+
+    public static final Type<StormPayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(Fortnite.MODID, "storm"));
+
+    public static final StreamCodec<FriendlyByteBuf, StormPayload> STREAM_CODEC =
+            StreamCodec.ofMember(StormPayload::write, StormPayload::new);
+
+    private StormPayload(FriendlyByteBuf buf) {
+        this(buf.readDouble(), buf.readDouble(), buf.readDouble(),
+            buf.readDouble(), buf.readDouble(), buf.readDouble(),
+            buf.readVarLong(), buf.readVarLong());
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeDouble(fromX);
+        buf.writeDouble(fromZ);
+        buf.writeDouble(fromRadius);
+        buf.writeDouble(toX);
+        buf.writeDouble(toZ);
+        buf.writeDouble(toRadius);
+        buf.writeVarLong(shrinkStart);
+        buf.writeVarLong(shrinkEnd);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    public boolean active() {
+        return fromRadius >= 0;
+    }
+
+    /**
+     * How far the shrink has progressed at a game time, from 0 to 1.
+     */
+    public double progress(double time) {
+        if (time <= shrinkStart) {
+            return 0;
+        }
+        if (time >= shrinkEnd) {
+            return 1;
+        }
+        return (time - shrinkStart) / (shrinkEnd - shrinkStart);
+    }
+
+    public double centreX(double progress) {
+        return Mth.lerp(progress, fromX, toX);
+    }
+
+    public double centreZ(double progress) {
+        return Mth.lerp(progress, fromZ, toZ);
+    }
+
+    public double radius(double progress) {
+        return Mth.lerp(progress, fromRadius, toRadius);
+    }
+}
@@ -0,0 +1,35 @@
+package com.noel.fortnitemod.storm;
+
+/**
+ * One phase of the storm: hold the current circle, then shrink to a smaller one.
+ *
+ * @param waitTicks    how long the circle holds before shrinking
+ * @param shrinkTicks  how long the shrink takes
+ * @param radiusScale  the radius after this phase, as a fraction of the starting radius
+ * @param damage       damage per second dealt to players outside the circle
+ */
+public record StormPhase(int waitTicks, int shrinkTicks, double radiusScale, float damage) {
+
+    /**
+     * Parses a config entry of the form {@code "waitSeconds,shrinkSeconds,radiusScale,damage"}.
+     * Returns null if the entry is malformed.
+     */
+    public static StormPhase parse(String entry) {
+        String[] parts = entry.split(",");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            int wait = Integer.parseInt(parts[0].trim());
+            int shrink = Integer.parseInt(parts[1].trim());
+            double scale = Double.parseDouble(parts[2].trim());
+            float damage = Float.parseFloat(parts[3].trim());
+            if (wait < 0 || shrink < 1 || scale < 0 || scale > 1 || damage < 0) {
+                return null;
+            }
+            return new StormPhase(wait * 20, shrink * 20, scale, damage);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}